@@ -3,6 +3,7 @@ import json
 import logging
 import sys
 import re
+import time
 import requests # PDF 다운로드를 위해 추가
 import fitz  # PyMuPDF
 from openai import AzureOpenAI
@@ -55,6 +56,13 @@ KAFKA_BROKER_URL = 'kafka:9092'
 REQUEST_TOPIC = 'resume_analysis_request'
 FEEDBACK_TOPIC = 'analysis_feedback_topic'
 NOTIFICATION_TOPIC = 'notification_topic'
+
+# 구간 추적 헤더 (백엔드가 보낸 pposeek- 헤더는 피드백에 그대로 돌려주고 AI 서비스 시각을 더함)
+TRACE_HEADER_PREFIX = 'pposeek-'
+CORRELATION_ID_HEADER = 'pposeek-correlation-id'
+REQUEST_PUBLISHED_AT_HEADER = 'pposeek-request-published-at'
+AI_RECEIVED_AT_HEADER = 'pposeek-ai-received-at'
+AI_COMPLETED_AT_HEADER = 'pposeek-ai-completed-at'
 # -------------------
 
 # --- 4. 핵심 분석 함수들 ---
@@ -137,6 +145,23 @@ def process_resume_analysis(file_url: str, user_id: str) -> Tuple[str, str, str]
 
     return strengths, weaknesses, suggestions
 
+def epoch_millis() -> int:
+    return int(time.time() * 1000)
+
+def trace_headers(message, received_at: int) -> list:
+    """요청 메시지의 구간 추적 헤더에 발행/수신/완료 시각을 더해 피드백 헤더를 만듭니다."""
+    headers = [(key, value) for key, value in (message.headers or []) if key.startswith(TRACE_HEADER_PREFIX)]
+    headers.append((REQUEST_PUBLISHED_AT_HEADER, str(message.timestamp).encode('utf-8')))
+    headers.append((AI_RECEIVED_AT_HEADER, str(received_at).encode('utf-8')))
+    headers.append((AI_COMPLETED_AT_HEADER, str(epoch_millis()).encode('utf-8')))
+    return headers
+
+def correlation_id(message):
+    for key, value in (message.headers or []):
+        if key == CORRELATION_ID_HEADER:
+            return value.decode('utf-8')
+    return None
+
 # --- 5. Kafka 컨슈머 및 프로듀서 실행 ---
 
 logger.info("AI Service Script Started. Waiting for messages...")
@@ -169,12 +194,14 @@ except Exception as e:
 logger.info("Starting to listen for messages...")
 
 for message in consumer:
+    received_at = epoch_millis()
     try:
         request_data = message.value
-        logger.info("Received request", extra={'request_data': request_data})
+        logger.info("Received request", extra={'request_data': request_data, 'correlation_id': correlation_id(message)})
 
         user_id = str(request_data.get('userId'))
         file_url = request_data.get('fileUrl')
+        job_id = request_data.get('jobId')  # 백엔드 분석 작업 ID (결과 저장용으로 그대로 돌려보냄)
 
         if not user_id or not file_url:
             logger.warning("Invalid message received (missing userId or fileUrl)", extra={'payload': request_data})
@@ -186,12 +213,14 @@ for message in consumer:
         # Kafka로 피드백 전송
         feedback_payload = {
             'userId': user_id,
+            'jobId': job_id,
             'strengths': strengths,
             'weaknesses': weaknesses,
             'suggestions': suggestions,
-            'status': 'completed'
+            'status': 'completed',
+            'correlationId': correlation_id(message)
         }
-        producer.send(FEEDBACK_TOPIC, value=feedback_payload)
+        producer.send(FEEDBACK_TOPIC, value=feedback_payload, headers=trace_headers(message, received_at))
         logger.info("Sent feedback", extra={'payload': feedback_payload})
 
         # Kafka로 알림 전송
@@ -208,5 +237,19 @@ for message in consumer:
     except Exception as e:
         logger.error("ERROR during message processing", exc_info=True, extra={'failed_message': message.value if message else 'N/A'})
 
+        # 실패 결과도 돌려보내 백엔드 분석 작업이 FAILED로 종료되도록 함
+        try:
+            failed_request = message.value if message and isinstance(message.value, dict) else {}
+            if failed_request.get('jobId'):
+                producer.send(FEEDBACK_TOPIC, value={
+                    'userId': str(failed_request.get('userId')),
+                    'jobId': failed_request.get('jobId'),
+                    'status': 'failed',
+                    'correlationId': correlation_id(message)
+                }, headers=trace_headers(message, received_at))
+                producer.flush()
+        except Exception:
+            logger.error("Failed to send failure feedback", exc_info=True)
+
 logger.info("Script finished or consumer timed out.")
 
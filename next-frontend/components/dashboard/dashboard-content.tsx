@@ -240,8 +240,19 @@ export function DashboardContent() {
         return
       }
 
+      // 순수 WebSocket(/ws-native)으로 먼저 연결하고, 연결 전에 끊기면(프록시 차단 등) SockJS(/ws)로 재시도
+      let connected = false
+      let useSockJS = typeof WebSocket === "undefined"
+
       const client = new Client({
-        webSocketFactory: () => new SockJS("http://localhost:8080/ws"),
+        webSocketFactory: () =>
+          useSockJS ? new SockJS("http://localhost:8080/ws") : new WebSocket("ws://localhost:8080/ws-native"),
+        onWebSocketClose: () => {
+          if (!connected && !useSockJS) {
+            console.warn("Native WebSocket failed, falling back to SockJS")
+            useSockJS = true
+          }
+        },
         connectHeaders: {
           Authorization: `Bearer ${accessToken}`,
         },
@@ -249,6 +260,7 @@ export function DashboardContent() {
           console.log(`STOMP: ${str}`)
         },
         onConnect: () => {
+          connected = true
           console.log("WebSocket Connected!")
           client.subscribe(`/user/queue/feedback`, (message) => {
             const feedback = JSON.parse(message.body) as AnalysisFeedback
@@ -0,0 +1,54 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - JwtConfig Benchmark
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.rounders.pposeek.common.benchmark.BenchmarkFixtures;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JwtConfig 토큰 생성/검증 벤치마크 (HS256 계열, 로그인 응답과 같은 user_id/username/email/role 클레임).
+ * 운영과 같이 호출마다 서명 키를 조회하고 auth.jwt 타이머를 기록한다. (키는 환경변수 fallback)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@State(Scope.Benchmark)
+public class JwtConfigBenchmark {
+
+    private JwtConfig jwtConfig;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtConfig = new JwtConfig(BenchmarkFixtures.secureKeyManager(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtConfig, "expiration", 86400L);
+        token = jwtConfig.generateToken(1024, "pposeek_user01", "pposeek.user01@example.com", "user");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtConfig.generateToken(1024, "pposeek_user01", "pposeek.user01@example.com", "user");
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtConfig.extractClaims(token);
+    }
+}
@@ -0,0 +1,110 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Kafka DTO Serialization Benchmark
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.kafka;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rounders.pposeek.common.benchmark.BenchmarkFixtures;
+import com.rounders.pposeek.common.business.kafka_ai.KafkaConsumerService;
+import com.rounders.pposeek.common.business.kafka_ai.KafkaProducerService;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kafka 메시지 DTO 직렬화/역직렬화 벤치마크.
+ * 운영 경로와 같은 방식으로 잰다.
+ * - 분석 요청 발행 : JsonSerializer 로 ResumeAnalysisRequest 직렬화
+ * - 분석 결과 수신 : JsonDeserializer(Object) 로 Map 역직렬화 후 ObjectMapper.convertValue 로 AnalysisFeedback 변환
+ * 분석 결과 본문(강점/약점/제안) 전체 글자 수는 feedbackLength 로 바꾼다. (2048 : 일반적인 AI 피드백)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@State(Scope.Benchmark)
+public class KafkaDtoSerializationBenchmark {
+
+    private JsonSerializer<Object> serializer;
+    private JsonDeserializer<Object> deserializer;
+    private ObjectMapper objectMapper;
+    private ResumeAnalysisRequest request;
+
+    /**
+     * 분석 결과 메시지 (본문 크기별)
+     */
+    @State(Scope.Benchmark)
+    public static class FeedbackPayload {
+
+        @Param({"512", "2048", "16384"})
+        private int feedbackLength;
+
+        private AnalysisFeedback feedback;
+        private byte[] bytes;
+
+        @Setup
+        public void setUp(KafkaDtoSerializationBenchmark benchmark) {
+            int sectionLength = feedbackLength / 3;
+            feedback = new AnalysisFeedback();
+            feedback.setUserId("1024");
+            feedback.setJobId(UUID.nameUUIDFromBytes("job".getBytes()).toString());
+            feedback.setStrengths(BenchmarkFixtures.text(sectionLength));
+            feedback.setWeaknesses(BenchmarkFixtures.text(sectionLength + 1));
+            feedback.setSuggestions(BenchmarkFixtures.text(feedbackLength - sectionLength * 2));
+            feedback.setStatus("COMPLETED");
+            feedback.setCorrelationId(UUID.nameUUIDFromBytes("correlation".getBytes()).toString());
+            bytes = benchmark.serializer.serialize(KafkaConsumerService.FEEDBACK_TOPIC, feedback);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        serializer = new JsonSerializer<>();
+        deserializer = new JsonDeserializer<>(Object.class, false);
+        deserializer.addTrustedPackages("*");
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        long now = System.currentTimeMillis();
+        request = new ResumeAnalysisRequest(
+                "1024",
+                "https://pposeekstorage.blob.core.windows.net/resumes/1024/"
+                        + UUID.nameUUIDFromBytes("file".getBytes()) + "_이력서_최종.pdf",
+                UUID.nameUUIDFromBytes("job".getBytes()).toString(),
+                UUID.nameUUIDFromBytes("correlation".getBytes()).toString(),
+                now - 1200,
+                now);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() {
+        return serializer.serialize(KafkaProducerService.TOPIC, request);
+    }
+
+    @Benchmark
+    public byte[] serializeFeedback(FeedbackPayload payload) {
+        return serializer.serialize(KafkaConsumerService.FEEDBACK_TOPIC, payload.feedback);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public AnalysisFeedback deserializeFeedback(FeedbackPayload payload) {
+        Map<String, Object> feedbackMap = (Map<String, Object>) deserializer.deserialize(KafkaConsumerService.FEEDBACK_TOPIC, payload.bytes);
+        return objectMapper.convertValue(feedbackMap, AnalysisFeedback.class);
+    }
+}
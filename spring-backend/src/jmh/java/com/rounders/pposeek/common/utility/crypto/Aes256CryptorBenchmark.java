@@ -0,0 +1,55 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Aes256Cryptor Benchmark
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.utility.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.rounders.pposeek.common.benchmark.BenchmarkFixtures;
+import com.rounders.pposeek.common.utility.crypto.constant.EncryptionResultType;
+
+/**
+ * Aes256Cryptor 암호화/복호화 벤치마크 (AES-256-GCM, 결과는 16진수 대문자).
+ * - length 64 : 이메일/연락처 등 개인정보, 4096 : 이력서 한 항목, 32768 : 이력서 전체 본문
+ * 키는 미리 꺼내 두고 암호화 비용만 잰다. (키 조회 비용 제외, 메트릭은 전역 레지스트리 미등록 상태라 no-op)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@State(Scope.Benchmark)
+public class Aes256CryptorBenchmark {
+
+    @Param({"64", "4096", "32768"})
+    private int length;
+
+    private String plainText;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        plainText = BenchmarkFixtures.text(length);
+        encrypted = Aes256Cryptor.encrypt(plainText, BenchmarkFixtures.PERSONAL_DATA_KEY, EncryptionResultType.HEX_UPPER_CASE);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return Aes256Cryptor.encrypt(plainText, BenchmarkFixtures.PERSONAL_DATA_KEY, EncryptionResultType.HEX_UPPER_CASE);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return Aes256Cryptor.decrypt(encrypted, BenchmarkFixtures.PERSONAL_DATA_KEY, EncryptionResultType.HEX_UPPER_CASE);
+    }
+}
@@ -0,0 +1,65 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - ArithmeticUtility Benchmark
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.utility.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.rounders.pposeek.common.benchmark.BenchmarkFixtures;
+
+/**
+ * ArithmeticUtility 인코딩/디코딩 벤치마크.
+ * - size 64 : SHA-512 해시 결과, 1024 : 개인정보 암호문, 16384 : 이력서 암호문
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@State(Scope.Benchmark)
+public class ArithmeticUtilityBenchmark {
+
+    @Param({"64", "1024", "16384"})
+    private int size;
+
+    private byte[] bytes;
+    private String base64;
+    private String hex;
+
+    @Setup
+    public void setUp() {
+        bytes = BenchmarkFixtures.bytes(size);
+        base64 = ArithmeticUtility.bytesToBase64String(bytes);
+        hex = ArithmeticUtility.bytesToHexStringUpperCase(bytes);
+    }
+
+    @Benchmark
+    public String bytesToBase64String() {
+        return ArithmeticUtility.bytesToBase64String(bytes);
+    }
+
+    @Benchmark
+    public byte[] base64StringToBytes() {
+        return ArithmeticUtility.base64StringToBytes(base64);
+    }
+
+    @Benchmark
+    public String bytesToHexStringUpperCase() {
+        return ArithmeticUtility.bytesToHexStringUpperCase(bytes);
+    }
+
+    @Benchmark
+    public byte[] hexStringToBytes() {
+        return ArithmeticUtility.hexStringToBytes(hex);
+    }
+}
@@ -0,0 +1,60 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Sha512Cryptor Benchmark
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.utility.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.rounders.pposeek.common.benchmark.BenchmarkFixtures;
+import com.rounders.pposeek.common.utility.crypto.constant.EncryptionResultType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Sha512Cryptor 해시/검증 벤치마크.
+ * - length 16 : 비밀번호, 64 : 이메일 등 개인정보, 1024 : 긴 입력
+ * Salt 는 PPoseek 고정 Salt 와 같은 값을 미리 만들어 두고 해시 비용만 잰다. (키 조회 비용 제외)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@State(Scope.Benchmark)
+public class Sha512CryptorBenchmark {
+
+    @Param({"16", "64", "1024"})
+    private int length;
+
+    private String plainText;
+    private byte[] salt;
+    private String hashed;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        plainText = BenchmarkFixtures.text(length);
+        salt = BenchmarkFixtures.SALT_KEY.getBytes(StandardCharsets.UTF_8);
+        hashed = Sha512Cryptor.encode(plainText, salt, EncryptionResultType.HEX_UPPER_CASE);
+    }
+
+    @Benchmark
+    public String encode() throws NoSuchAlgorithmException {
+        return Sha512Cryptor.encode(plainText, salt, EncryptionResultType.HEX_UPPER_CASE);
+    }
+
+    @Benchmark
+    public boolean matches() throws NoSuchAlgorithmException {
+        return Sha512Cryptor.matches(hashed, plainText, salt, EncryptionResultType.HEX_UPPER_CASE);
+    }
+}
@@ -0,0 +1,178 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test HTTP Client
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 부하 테스트 HTTP 클라이언트 (엔드포인트별 요청 생성).
+ * 업로드 파일은 앞 36바이트를 요청마다 바꿔 같은 파일 재사용(분석 결과 재사용) 경로를 타지 않게 한다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public class LoadTestClient {
+
+    private static final String BOUNDARY = "----pposeek-load-test-boundary";
+    private static final int UNIQUE_PREFIX_LENGTH = 36;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final Duration requestTimeout;
+
+    /**
+     * 업로드 파일 본문 (앞 UNIQUE_PREFIX_LENGTH 바이트 제외)
+     */
+    private final byte[] uploadContent;
+
+    public LoadTestClient(URI baseUri, LoadTestOptions options) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(options.getRequestTimeoutSeconds()))
+                .build();
+        this.baseUri = baseUri;
+        this.requestTimeout = Duration.ofSeconds(options.getRequestTimeoutSeconds());
+
+        byte[] content = new byte[Math.max(options.getUploadSizeKb() * 1024 - UNIQUE_PREFIX_LENGTH, 0)];
+        new Random(content.length).nextBytes(content);
+        this.uploadContent = content;
+    }
+
+    /**
+     * 가상 사용자 회원가입 (토큰과 사용자 ID 저장).
+     */
+    public void register(VirtualUser user) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "email", user.getEmail(),
+                "password", user.getPassword(),
+                "name", user.getName()));
+        HttpResponse<String> response = send(jsonPost("/api/auth/register", body));
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("가상 사용자 가입 실패 (" + response.statusCode() + "): " + response.body());
+        }
+        applyTokenInfo(user, response.body());
+    }
+
+    /**
+     * 엔드포인트 한 번 호출.
+     *
+     * @return HTTP 상태 코드
+     */
+    public int call(LoadTestEndpoint endpoint, VirtualUser user) throws IOException, InterruptedException {
+        return switch (endpoint) {
+            case LOGIN -> login(user);
+            case ME -> me(user);
+            case UPLOAD -> upload(user);
+            case SESSIONS -> sessions(user);
+        };
+    }
+
+    private int login(VirtualUser user) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "username", user.getEmail(),
+                "password", user.getPassword()));
+        HttpResponse<String> response = send(jsonPost("/api/auth/login", body));
+        if (response.statusCode() == 200) {
+            applyTokenInfo(user, response.body());
+        }
+        return response.statusCode();
+    }
+
+    /**
+     * 브라우저처럼 마지막으로 받은 ETag 로 재검증 (변경 없으면 304).
+     */
+    private int me(VirtualUser user) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve("/api/auth/me"))
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + user.getAccessToken())
+                .GET();
+        if (user.getMeETag() != null) {
+            builder.header("If-None-Match", user.getMeETag());
+        }
+        HttpResponse<String> response = send(builder.build());
+        if (response.statusCode() == 200) {
+            user.setMeETag(response.headers().firstValue("ETag").orElse(null));
+        }
+        return response.statusCode();
+    }
+
+    private int sessions(VirtualUser user) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/sessions?size=20"))
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + user.getAccessToken())
+                .GET()
+                .build();
+        return send(request).statusCode();
+    }
+
+    private int upload(VirtualUser user) throws IOException, InterruptedException {
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"userId\"\r\n\r\n"
+                + user.getUserId() + "\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"resume.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n";
+        String tail = "\r\n--" + BOUNDARY + "--\r\n";
+        // 업로드 본문은 복사하지 않고 조각 단위로 전송
+        List<byte[]> parts = List.of(
+                head.getBytes(StandardCharsets.UTF_8),
+                UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII),
+                uploadContent,
+                tail.getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/resume/upload"))
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + user.getAccessToken())
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(parts))
+                .build();
+        return send(request).statusCode();
+    }
+
+    private HttpRequest jsonPost(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * TokenInfo 응답에서 토큰과 사용자 ID 저장.
+     */
+    private void applyTokenInfo(VirtualUser user, String body) throws IOException {
+        JsonNode tokenInfo = objectMapper.readTree(body);
+        user.setAccessToken(tokenInfo.path("accessToken").asText());
+        JsonNode userId = tokenInfo.path("userInfo").path("userId");
+        if (!userId.isMissingNode() && !userId.isNull()) {
+            user.setUserId(userId.asText());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test Endpoint
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 대상 엔드포인트.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LoadTestEndpoint {
+
+    /**
+     * 로그인 (비밀번호 검증 + 토큰 발급 + 세션 기록)
+     */
+    LOGIN("login", "POST /api/auth/login"),
+
+    /**
+     * 현재 사용자 조회 (토큰 검증 + 사용자 조회)
+     */
+    ME("me", "GET /api/auth/me"),
+
+    /**
+     * 이력서 업로드 (multipart 수신 + Blob 업로드 + 분석 요청 Outbox 기록)
+     */
+    UPLOAD("upload", "POST /api/resume/upload"),
+
+    /**
+     * 내 활성 세션 첫 페이지 (토큰 검증 + 세션 키셋 조회)
+     */
+    SESSIONS("sessions", "GET /api/auth/sessions");
+
+    private final String key;
+    private final String route;
+
+    public static LoadTestEndpoint fromName(String key) {
+        for (LoadTestEndpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트: " + key + " (login, me, upload, sessions)");
+    }
+}
@@ -0,0 +1,124 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test Environment
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import com.rounders.pposeek.common.business.kafka_ai.KafkaConsumerService;
+import com.rounders.pposeek.common.business.kafka_ai.KafkaProducerService;
+import com.rounders.pposeek.common.config.BlobStorageStub;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 로컬 대체 인프라.
+ * 네트워크 없이 한 JVM 안에서 운영 의존성을 대신한다.
+ * - MySQL      : Embedded MariaDB (MariaDB4j, 임의 포트, 종료 시 데이터 삭제)
+ * - Kafka      : Embedded Kafka (KRaft, 브로커 1개)
+ * - Blob       : Blob Storage HTTP 스텁 (요청당 지연 시간 지정)
+ * - Key Vault  : 사용 안 함 (azure.keyvault.uri 비움 → 환경변수 fallback 키)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+public class LoadTestEnvironment implements AutoCloseable {
+
+    private static final String DATABASE_NAME = "pposeek";
+    private static final String BLOB_CONTAINER = "resumes";
+
+    private final DB database;
+    private final EmbeddedKafkaBroker kafkaBroker;
+    private final BlobStorageStub blobStorage;
+
+    private LoadTestEnvironment(DB database, EmbeddedKafkaBroker kafkaBroker, BlobStorageStub blobStorage) {
+        this.database = database;
+        this.kafkaBroker = kafkaBroker;
+        this.blobStorage = blobStorage;
+    }
+
+    /**
+     * 대체 인프라 시작.
+     *
+     * @param options 실행 옵션
+     * @return 시작된 환경
+     */
+    public static LoadTestEnvironment start(LoadTestOptions options) throws ManagedProcessException, IOException {
+        DBConfiguration configuration = DBConfigurationBuilder.newBuilder()
+                .setPort(0)                                                 // 임의의 빈 포트
+                .setDeletingTemporaryBaseAndDataDirsOnShutdown(true)
+                .addArg("--user=" + System.getProperty("user.name"))       // root 계정(CI 컨테이너)에서도 실행되도록
+                .build();
+        DB database = DB.newEmbeddedDB(configuration);
+        database.start();
+        database.createDB(DATABASE_NAME);
+        log.info("Embedded MariaDB 시작: port={}", configuration.getPort());
+
+        EmbeddedKafkaBroker kafkaBroker = new EmbeddedKafkaKraftBroker(1, 1,
+                KafkaProducerService.TOPIC, KafkaConsumerService.FEEDBACK_TOPIC, KafkaConsumerService.NOTIFICATION_TOPIC);
+        kafkaBroker.afterPropertiesSet();
+        log.info("Embedded Kafka 시작: {}", kafkaBroker.getBrokersAsString());
+
+        BlobStorageStub blobStorage = new BlobStorageStub(options.getBlobLatencyMs());
+        log.info("Blob Storage 스텁 시작: latency={}ms", options.getBlobLatencyMs());
+
+        return new LoadTestEnvironment(database, kafkaBroker, blobStorage);
+    }
+
+    /**
+     * 대체 인프라에 연결하는 애플리케이션 설정.
+     *
+     * @return 프로퍼티 이름 -> 값
+     */
+    public Map<String, Object> applicationProperties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:mysql://localhost:" + database.getConfiguration().getPort() + "/"
+                + DATABASE_NAME + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul&characterEncoding=UTF-8");
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.sql.init.mode", "always");                  // schema.sql 로 테이블 생성
+        properties.put("spring.kafka.bootstrap-servers", kafkaBroker.getBrokersAsString());
+        properties.put("azure.blob.connection-string", blobStorage.connectionString());
+        properties.put("azure.blob.container-name", BLOB_CONTAINER);
+        properties.put("azure.keyvault.uri", "");
+        // 측정 중 DEBUG 로그가 처리량을 좌우하지 않도록 (load.app.logging.level.* 로 다시 올릴 수 있음)
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.rounders.pposeek", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        properties.put("logging.level.org.springframework.web.servlet.DispatcherServlet", "WARN");
+        properties.put("logging.level.org.mybatis", "WARN");
+        properties.put("logging.level.com.rounders.pposeek.loadtest", "INFO");   // 부하 테스트 진행 로그
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        blobStorage.close();
+        kafkaBroker.destroy();
+        try {
+            database.stop();
+        } catch (ManagedProcessException e) {
+            log.error("Embedded MariaDB 종료 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test Metrics
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간/상태 코드 집계.
+ * 응답 시간은 Micrometer Timer(HdrHistogram) 로 모으고, 측정 시작 전에 시작한 요청(예열)은 버린다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public class LoadTestMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<LoadTestEndpoint, Timer> timers = new EnumMap<>(LoadTestEndpoint.class);
+    private final Map<LoadTestEndpoint, LongAdder> errors = new EnumMap<>(LoadTestEndpoint.class);
+    private final Map<LoadTestEndpoint, Map<String, LongAdder>> statusCodes = new EnumMap<>(LoadTestEndpoint.class);
+
+    /**
+     * 측정 시작 시각 (System.nanoTime)
+     */
+    private final long measureStartNanos;
+
+    public LoadTestMetrics(long measureStartNanos, Duration runLength) {
+        this.measureStartNanos = measureStartNanos;
+        for (LoadTestEndpoint endpoint : LoadTestEndpoint.values()) {
+            timers.put(endpoint, Timer.builder("load.request")
+                    .tag("endpoint", endpoint.getKey())
+                    .publishPercentiles(PERCENTILES)
+                    .percentilePrecision(3)
+                    // 실행 중 히스토그램이 교체되지 않도록 실행 시간보다 길게
+                    .distributionStatisticExpiry(runLength.plusMinutes(1))
+                    .distributionStatisticBufferLength(1)
+                    .register(registry));
+            errors.put(endpoint, new LongAdder());
+            statusCodes.put(endpoint, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 요청 한 건 기록.
+     *
+     * @param endpoint 엔드포인트
+     * @param startNanos 요청 시작 시각 (System.nanoTime)
+     * @param status HTTP 상태 코드 (연결 실패/시간 초과는 null, 304 는 성공으로 집계)
+     */
+    public void record(LoadTestEndpoint endpoint, long startNanos, Integer status) {
+        if (startNanos < measureStartNanos) {
+            return;
+        }
+        timers.get(endpoint).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (status == null || !(status >= 200 && status < 300 || status == 304)) {
+            errors.get(endpoint).increment();
+        }
+        statusCodes.get(endpoint)
+                .computeIfAbsent(status == null ? "exception" : String.valueOf(status), code -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * 엔드포인트별 결과 생성 (호출한 엔드포인트만).
+     *
+     * @param measuredSeconds 측정 구간 길이 (초)
+     * @return 엔드포인트별 결과
+     */
+    public List<LoadTestReport.EndpointResult> results(double measuredSeconds) {
+        List<LoadTestReport.EndpointResult> results = new ArrayList<>();
+        for (LoadTestEndpoint endpoint : LoadTestEndpoint.values()) {
+            Timer timer = timers.get(endpoint);
+            long requests = timer.count();
+            if (requests == 0) {
+                continue;
+            }
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<Double, Double> percentiles = new TreeMap<>();
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+            }
+            Map<String, Long> codes = new TreeMap<>();
+            statusCodes.get(endpoint).forEach((code, count) -> codes.put(code, count.sum()));
+            long errorCount = errors.get(endpoint).sum();
+
+            results.add(LoadTestReport.EndpointResult.builder()
+                    .endpoint(endpoint.getKey())
+                    .route(endpoint.getRoute())
+                    .requests(requests)
+                    .errors(errorCount)
+                    .errorRate(round((double) errorCount / requests))
+                    .throughput(round(requests / measuredSeconds))
+                    .meanMs(round(timer.mean(TimeUnit.MILLISECONDS)))
+                    .p50Ms(round(percentiles.getOrDefault(0.5, 0.0)))
+                    .p95Ms(round(percentiles.getOrDefault(0.95, 0.0)))
+                    .p99Ms(round(percentiles.getOrDefault(0.99, 0.0)))
+                    .maxMs(round(timer.max(TimeUnit.MILLISECONDS)))
+                    .statusCodes(codes)
+                    .build());
+        }
+        return results;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,120 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test Options
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 실행 옵션 (시스템 프로퍼티 load.*).
+ * <pre>
+ * load.users                   동시 가상 사용자 수 (기본 20)
+ * load.duration-seconds        측정 시간 (기본 60)
+ * load.warmup-seconds          측정 전 예열 시간, 이 구간 결과는 버림 (기본 15)
+ * load.mix                     엔드포인트 호출 비율 (기본 login:1,me:8,upload:1, 그 밖에 sessions)
+ * load.think-time-ms           가상 사용자의 요청 사이 대기 시간 (기본 0)
+ * load.upload-size-kb          업로드 파일 크기 (기본 256)
+ * load.blob-latency-ms         Blob Storage 스텁의 요청당 지연 (기본 20)
+ * load.request-timeout-seconds 요청 제한 시간 (기본 30)
+ * load.report-file             결과 JSON 경로
+ * load.app.*                   애플리케이션 설정 덮어쓰기 (예: load.app.spring.threads.virtual.enabled=true)
+ * </pre>
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Getter
+@Builder
+public class LoadTestOptions {
+
+    private static final String APPLICATION_PREFIX = "load.app.";
+
+    private final int users;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+
+    /**
+     * 엔드포인트 -> 호출 비율 (순서 유지)
+     */
+    private final Map<LoadTestEndpoint, Integer> mix;
+
+    private final long thinkTimeMs;
+    private final int uploadSizeKb;
+    private final long blobLatencyMs;
+    private final int requestTimeoutSeconds;
+    private final String reportFile;
+
+    /**
+     * 애플리케이션 설정 덮어쓰기 (load.app. 접두어 제거)
+     */
+    private final Map<String, Object> applicationOverrides;
+
+    /**
+     * 시스템 프로퍼티에서 옵션 생성.
+     *
+     * @return 실행 옵션
+     */
+    public static LoadTestOptions fromSystemProperties() {
+        return LoadTestOptions.builder()
+                .users(Integer.getInteger("load.users", 20))
+                .durationSeconds(Integer.getInteger("load.duration-seconds", 60))
+                .warmupSeconds(Integer.getInteger("load.warmup-seconds", 15))
+                .mix(parseMix(System.getProperty("load.mix", "login:1,me:8,upload:1")))
+                .thinkTimeMs(Long.getLong("load.think-time-ms", 0))
+                .uploadSizeKb(Integer.getInteger("load.upload-size-kb", 256))
+                .blobLatencyMs(Long.getLong("load.blob-latency-ms", 20))
+                .requestTimeoutSeconds(Integer.getInteger("load.request-timeout-seconds", 30))
+                .reportFile(System.getProperty("load.report-file", "load-test-report.json"))
+                .applicationOverrides(applicationOverrides())
+                .build();
+    }
+
+    private static Map<String, Object> applicationOverrides() {
+        Map<String, Object> overrides = new TreeMap<>();
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith(APPLICATION_PREFIX)) {
+                overrides.put(name.substring(APPLICATION_PREFIX.length()), value);
+            }
+        });
+        return overrides;
+    }
+
+    /**
+     * "login:1,me:8,upload:1" 형식의 호출 비율 파싱 (비율 0 인 엔드포인트는 호출하지 않음).
+     */
+    static Map<LoadTestEndpoint, Integer> parseMix(String mix) {
+        Map<LoadTestEndpoint, Integer> weights = new LinkedHashMap<>();
+        Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    String[] pair = entry.split(":");
+                    if (pair.length != 2) {
+                        throw new IllegalArgumentException("load.mix 형식 오류 (예: login:1,me:8,upload:1): " + entry);
+                    }
+                    int weight = Integer.parseInt(pair[1].trim());
+                    if (weight > 0) {
+                        weights.put(LoadTestEndpoint.fromName(pair[0].trim()), weight);
+                    }
+                });
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix 에 호출할 엔드포인트가 없습니다: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,92 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test Report
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON 으로 저장).
+ * 처리량은 측정 구간(예열 제외) 기준 초당 요청 수, 지연 시간은 밀리초.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@Builder
+public class LoadTestReport {
+
+    private String startedAt;
+    private Settings settings;
+    private Environment environment;
+    private double measuredSeconds;
+    private long totalRequests;
+    private long totalErrors;
+    private double throughput;
+    private List<EndpointResult> endpoints;
+
+    /**
+     * 실행 옵션
+     */
+    @Data
+    @Builder
+    public static class Settings {
+        private int users;
+        private int durationSeconds;
+        private int warmupSeconds;
+        private Map<String, Integer> mix;
+        private long thinkTimeMs;
+        private int uploadSizeKb;
+        private long blobLatencyMs;
+        private Map<String, Object> applicationOverrides;
+    }
+
+    /**
+     * 실행 환경 (같은 환경끼리만 비교)
+     */
+    @Data
+    @Builder
+    public static class Environment {
+        private String javaVersion;
+        private int availableProcessors;
+        private long maxHeapBytes;
+        private String osName;
+        private String osArch;
+    }
+
+    /**
+     * 엔드포인트별 결과
+     */
+    @Data
+    @Builder
+    public static class EndpointResult {
+        private String endpoint;
+        private String route;
+        private long requests;
+        private long errors;
+        private double errorRate;
+        private double throughput;
+        private double meanMs;
+        private double p50Ms;
+        private double p95Ms;
+        private double p99Ms;
+        private double maxMs;
+
+        /**
+         * 상태 코드 -> 건수 (연결 실패/시간 초과는 "exception")
+         */
+        private Map<String, Long> statusCodes;
+    }
+}
@@ -0,0 +1,214 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test Runner
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rounders.pposeek.PposeekApplication;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.net.URI;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인, /me, 이력서 업로드 부하 테스트 실행기 (gradle loadTest).
+ * <ol>
+ * <li>Embedded MariaDB/Kafka, Blob Storage 스텁을 띄우고 그 위에 애플리케이션을 임의 포트로 기동</li>
+ * <li>가상 사용자마다 계정을 가입시킨 뒤, load.mix 비율대로 엔드포인트를 쉬지 않고(think time 제외) 호출</li>
+ * <li>예열 구간을 뺀 측정 구간의 엔드포인트별 처리량, p50/p95/p99 지연, 오류율을 JSON 으로 저장</li>
+ * </ol>
+ * 가상 사용자는 각자 하나의 가상 스레드에서 응답을 받은 뒤 다음 요청을 보낸다. (closed model)
+ * 앱과 부하 발생기가 같은 JVM/CPU 를 쓰므로 결과는 같은 장비에서 실행한 결과끼리만 비교한다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+        throw new IllegalStateException("Utility Class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        int exitCode;
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(options);
+             ConfigurableApplicationContext context = startApplication(environment, options)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestReport report = run(new LoadTestClient(URI.create("http://localhost:" + port), options), options);
+            writeReport(report, new File(options.getReportFile()));
+            exitCode = 0;
+        } catch (Exception e) {
+            log.error("부하 테스트 실패: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+        // Kafka/MariaDB 클라이언트의 비데몬 스레드가 남아 있어도 종료
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestEnvironment environment, LoadTestOptions options) {
+        Map<String, Object> properties = new LinkedHashMap<>(environment.applicationProperties());
+        // 부하 테스트 클래스패스의 logback.xml 대신 운영 로그 설정(비동기 appender, 필터) 사용
+        properties.put("logging.config", "classpath:logback-spring.xml");
+        properties.putAll(options.getApplicationOverrides());
+        // application.yml 과 로그 설정보다 우선하도록 첫 번째 프로퍼티 소스로 등록 (builder.properties 는 기본값 취급)
+        StandardEnvironment springEnvironment = new StandardEnvironment();
+        springEnvironment.getPropertySources().addFirst(new MapPropertySource("loadTest", properties));
+        return new SpringApplicationBuilder(PposeekApplication.class)
+                .environment(springEnvironment)
+                .run();
+    }
+
+    private static LoadTestReport run(LoadTestClient client, LoadTestOptions options) throws Exception {
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 1; i <= options.getUsers(); i++) {
+            VirtualUser user = VirtualUser.of(i);
+            client.register(user);
+            users.add(user);
+        }
+        log.info("가상 사용자 {}명 가입 완료, 예열 {}초 후 {}초 측정", users.size(), options.getWarmupSeconds(), options.getDurationSeconds());
+
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+        long endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+        LoadTestMetrics metrics = new LoadTestMetrics(measureStartNanos,
+                Duration.ofSeconds(options.getWarmupSeconds() + options.getDurationSeconds()));
+        String startedAt = OffsetDateTime.now().toString();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (VirtualUser user : users) {
+                futures.add(executor.submit(() -> drive(client, user, options, metrics, endNanos)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        // 마지막 요청이 측정 종료 후 끝날 수 있으므로 실제 경과 시간 기준
+        double measuredSeconds = Math.max(System.nanoTime() - measureStartNanos, 1) / 1_000_000_000.0;
+
+        List<LoadTestReport.EndpointResult> endpoints = metrics.results(measuredSeconds);
+        long totalRequests = endpoints.stream().mapToLong(LoadTestReport.EndpointResult::getRequests).sum();
+        long totalErrors = endpoints.stream().mapToLong(LoadTestReport.EndpointResult::getErrors).sum();
+
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.getMix().forEach((endpoint, weight) -> mix.put(endpoint.getKey(), weight));
+        Runtime runtime = Runtime.getRuntime();
+
+        return LoadTestReport.builder()
+                .startedAt(startedAt)
+                .settings(LoadTestReport.Settings.builder()
+                        .users(options.getUsers())
+                        .durationSeconds(options.getDurationSeconds())
+                        .warmupSeconds(options.getWarmupSeconds())
+                        .mix(mix)
+                        .thinkTimeMs(options.getThinkTimeMs())
+                        .uploadSizeKb(options.getUploadSizeKb())
+                        .blobLatencyMs(options.getBlobLatencyMs())
+                        .applicationOverrides(options.getApplicationOverrides())
+                        .build())
+                .environment(LoadTestReport.Environment.builder()
+                        .javaVersion(System.getProperty("java.version"))
+                        .availableProcessors(runtime.availableProcessors())
+                        .maxHeapBytes(runtime.maxMemory())
+                        .osName(System.getProperty("os.name"))
+                        .osArch(System.getProperty("os.arch"))
+                        .build())
+                .measuredSeconds(Math.round(measuredSeconds * 1000) / 1000.0)
+                .totalRequests(totalRequests)
+                .totalErrors(totalErrors)
+                .throughput(Math.round(totalRequests / measuredSeconds * 1000) / 1000.0)
+                .endpoints(endpoints)
+                .build();
+    }
+
+    /**
+     * 가상 사용자 한 명의 요청 반복 (측정 종료 시각까지).
+     */
+    private static void drive(LoadTestClient client, VirtualUser user, LoadTestOptions options,
+                              LoadTestMetrics metrics, long endNanos) {
+        int totalWeight = options.getMix().values().stream().mapToInt(Integer::intValue).sum();
+        while (System.nanoTime() < endNanos) {
+            LoadTestEndpoint endpoint = pick(options.getMix(), totalWeight);
+            long startNanos = System.nanoTime();
+            Integer status;
+            try {
+                status = client.call(endpoint, user);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("요청 실패: {} - {}", endpoint.getRoute(), e.getMessage());
+                status = null;
+            }
+            metrics.record(endpoint, startNanos, status);
+
+            if (options.getThinkTimeMs() > 0) {
+                try {
+                    Thread.sleep(options.getThinkTimeMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static LoadTestEndpoint pick(Map<LoadTestEndpoint, Integer> mix, int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<LoadTestEndpoint, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("호출 비율 합계 오류");
+    }
+
+    private static void writeReport(LoadTestReport report, File file) throws Exception {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IllegalStateException("결과 디렉터리 생성 실패: " + directory);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+
+        // 요약은 로그 레벨과 관계없이 표준 출력으로
+        System.out.printf("%n%-8s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (LoadTestReport.EndpointResult result : report.getEndpoints()) {
+            System.out.printf("%-8s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    result.getEndpoint(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.getP50Ms(), result.getP95Ms(), result.getP99Ms(), result.getMaxMs());
+        }
+        System.out.printf("%-8s %10d %8d %10.1f%n%n결과 저장: %s%n",
+                "total", report.getTotalRequests(), report.getTotalErrors(), report.getThroughput(), file.getAbsolutePath());
+    }
+}
@@ -0,0 +1,40 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Load Test Virtual User
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.loadtest;
+
+import lombok.Data;
+
+/**
+ * 부하 테스트 가상 사용자 (가입한 계정과 마지막으로 받은 토큰).
+ * 한 가상 사용자는 한 스레드에서만 사용한다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+public class VirtualUser {
+
+    private final String email;
+    private final String password;
+    private final String name;
+    private String userId;
+    private String accessToken;
+
+    /**
+     * 마지막 /me 응답의 ETag
+     */
+    private String meETag;
+
+    public static VirtualUser of(int index) {
+        return new VirtualUser("load-user-" + index + "@pposeek.com", "load-test-password-" + index, "부하테스트" + index);
+    }
+}
@@ -0,0 +1,480 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.analysis;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.business.kafka_ai.KafkaProducerService;
+import com.rounders.pposeek.common.model.constant.AnalysisJobStatus;
+import com.rounders.pposeek.common.model.constant.OutboxStatus;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisHistoryPageDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisJobDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisOutboxDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisTraceDto;
+import com.rounders.pposeek.common.model.dto.kafka.AnalysisFeedback;
+import com.rounders.pposeek.common.model.dto.kafka.ResumeAnalysisRequest;
+import com.rounders.pposeek.common.persistence.analysis.AnalysisPersistenceAdapter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이력서 분석 작업을 처리하는 비즈니스 서비스.
+ * 분석 요청은 분석 작업과 같은 트랜잭션으로 Outbox에 기록되고,
+ * {@link AnalysisOutboxRelay}가 별도로 Kafka에 발행한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobService {
+
+    private final AnalysisPersistenceAdapter analysisPersistenceAdapter;
+    private final KafkaProducerService kafkaProducerService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 분석 이력 최대 페이지 크기
+     */
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    /**
+     * AI 서비스가 보내는 분석 성공 상태값
+     */
+    private static final String FEEDBACK_STATUS_COMPLETED = "completed";
+
+    /**
+     * 분석 작업 생성 및 분석 요청 Outbox 기록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param fileUrl 업로드된 이력서 파일 URL
+     * @param contentHash 이력서 파일 SHA-256
+     * @param trace 구간 추적 정보
+     * @return 분석 작업 ID
+     */
+    @Transactional
+    public String requestAnalysis(String userId, String fileUrl, String contentHash, AnalysisTraceDto trace) {
+        String jobId = insertAnalysisJob(userId, fileUrl, contentHash);
+        insertOutboxMessage(jobId, userId, fileUrl, trace);
+
+        log.info("분석 요청 접수: jobId={}, userId={}, correlationId={}", jobId, userId, trace.getCorrelationId());
+        return jobId;
+    }
+
+    /**
+     * 파일 업로드 전 분석 작업만 먼저 생성 (비동기 제출용).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @return 분석 작업 ID
+     */
+    @Transactional
+    public String createAnalysisJob(String userId) {
+        String jobId = insertAnalysisJob(userId, null, null);
+        log.info("분석 작업 생성: jobId={}, userId={}", jobId, userId);
+        return jobId;
+    }
+
+    /**
+     * 업로드가 끝난 분석 작업에 파일 URL을 등록하고 분석 요청 Outbox 기록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @param userId 사용자 ID
+     * @param fileUrl 업로드된 이력서 파일 URL
+     * @param contentHash 이력서 파일 SHA-256
+     * @param trace 구간 추적 정보
+     */
+    @Transactional
+    public void requestAnalysis(String jobId, String userId, String fileUrl, String contentHash, AnalysisTraceDto trace) {
+        if (analysisPersistenceAdapter.updateAnalysisJobFileUrl(jobId, fileUrl, contentHash) == 0) {
+            throw new RuntimeException("분석 작업 파일 URL 등록에 실패했습니다.");
+        }
+        insertOutboxMessage(jobId, userId, fileUrl, trace);
+
+        log.info("분석 요청 접수: jobId={}, userId={}, correlationId={}", jobId, userId, trace.getCorrelationId());
+    }
+
+    /**
+     * 같은 파일로 이미 완료된 분석 작업 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param contentHash 이력서 파일 SHA-256
+     * @return 완료된 분석 작업 정보 (없으면 null)
+     */
+    public AnalysisJobDto findDoneAnalysis(String userId, String contentHash) {
+        if (contentHash == null) {
+            return null;
+        }
+        return analysisPersistenceAdapter.selectLatestDoneAnalysisJobByContentHash(userId, contentHash);
+    }
+
+    /**
+     * 이전 분석 결과를 재사용해 분석 작업을 바로 완료 처리 (Outbox 기록 없음).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID (null이면 새로 생성)
+     * @param userId 사용자 ID
+     * @param fileUrl 업로드된 이력서 파일 URL
+     * @param contentHash 이력서 파일 SHA-256
+     * @param doneJob 같은 파일로 완료된 분석 작업
+     * @return 재사용한 분석 결과
+     */
+    @Transactional
+    public AnalysisFeedback reuseDoneAnalysis(String jobId, String userId, String fileUrl, String contentHash,
+                                              AnalysisJobDto doneJob) {
+        if (jobId == null) {
+            jobId = insertAnalysisJob(userId, fileUrl, contentHash);
+        } else if (analysisPersistenceAdapter.updateAnalysisJobFileUrl(jobId, fileUrl, contentHash) == 0) {
+            throw new RuntimeException("분석 작업 파일 URL 등록에 실패했습니다.");
+        }
+
+        AnalysisJobDto analysisJobDto = AnalysisJobDto.builder()
+                .jobId(jobId)
+                .status(AnalysisJobStatus.DONE.name())
+                .strengths(doneJob.getStrengths())
+                .weaknesses(doneJob.getWeaknesses())
+                .suggestions(doneJob.getSuggestions())
+                .build();
+        if (analysisPersistenceAdapter.completeAnalysisJob(analysisJobDto) == 0) {
+            throw new RuntimeException("분석 결과 재사용 처리에 실패했습니다.");
+        }
+
+        log.info("이전 분석 결과 재사용: jobId={}, sourceJobId={}, userId={}", jobId, doneJob.getJobId(), userId);
+
+        AnalysisFeedback feedback = new AnalysisFeedback();
+        feedback.setUserId(userId);
+        feedback.setJobId(jobId);
+        feedback.setStrengths(doneJob.getStrengths());
+        feedback.setWeaknesses(doneJob.getWeaknesses());
+        feedback.setSuggestions(doneJob.getSuggestions());
+        feedback.setStatus(FEEDBACK_STATUS_COMPLETED);
+        return feedback;
+    }
+
+    /**
+     * AI 서비스의 분석 결과가 성공인지 (실패 결과는 status=failed, 분석 내용 없음).
+     * 
+     * @param feedback 분석 결과
+     * @return 성공 여부
+     */
+    public static boolean isCompleted(AnalysisFeedback feedback) {
+        return FEEDBACK_STATUS_COMPLETED.equalsIgnoreCase(feedback.getStatus());
+    }
+
+    /**
+     * 분석 작업 실패 처리.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     */
+    @Transactional
+    public void failAnalysisJob(String jobId) {
+        analysisPersistenceAdapter.updateAnalysisJobStatus(jobId, AnalysisJobStatus.FAILED.name());
+    }
+
+    /**
+     * 분석 작업 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @return 분석 작업 정보
+     */
+    public AnalysisJobDto getAnalysisJob(String jobId) {
+        return analysisPersistenceAdapter.selectAnalysisJobByJobId(jobId);
+    }
+
+    /**
+     * 사용자의 분석 이력 조회 (키셋 페이징, 최신순).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 분석 이력 페이지
+     */
+    public AnalysisHistoryPageDto getAnalysisHistory(String userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 판단한다
+        List<AnalysisJobDto> rows = analysisPersistenceAdapter.selectAnalysisJobsByUserId(userId, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<AnalysisJobDto> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return AnalysisHistoryPageDto.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getAnalysisId() : null)
+                .build();
+    }
+
+    /**
+     * AI 서비스의 분석 결과 저장 (PROCESSING -> DONE/FAILED).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param feedback 분석 결과 메시지
+     * @return 저장 여부 (jobId가 없거나 이미 완료된 작업이면 false)
+     */
+    @Transactional
+    public boolean completeAnalysisJob(AnalysisFeedback feedback) {
+        if (feedback.getJobId() == null) {
+            log.warn("jobId 없는 분석 결과 수신 (저장 생략): userId={}", feedback.getUserId());
+            return false;
+        }
+
+        String status = isCompleted(feedback)
+                ? AnalysisJobStatus.DONE.name()
+                : AnalysisJobStatus.FAILED.name();
+        AnalysisJobDto analysisJobDto = AnalysisJobDto.builder()
+                .jobId(feedback.getJobId())
+                .status(status)
+                .strengths(feedback.getStrengths())
+                .weaknesses(feedback.getWeaknesses())
+                .suggestions(feedback.getSuggestions())
+                .build();
+        return analysisPersistenceAdapter.completeAnalysisJob(analysisJobDto) > 0;
+    }
+
+    /**
+     * 발행 대기 중인 Outbox 메시지를 한 배치 점유 (SENDING).
+     * <p>
+     * 행 잠금은 점유 표시까지만 잡고 바로 커밋한다. 브로커 확인은 {@link #publishClaimedOutbox}에서
+     * 잠금 없이 기다리고, 그 사이 Relay가 중단되면 점유 만료 후 다른 Relay가 다시 발행한다.
+     * </p>
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param batchSize 배치 크기
+     * @param leaseSeconds 점유 유지 시간 (초, 브로커 확인 대기 시간보다 길어야 함)
+     * @return 점유한 메시지 목록 (outbox_id 오름차순)
+     */
+    @Transactional
+    public List<AnalysisOutboxDto> claimPendingOutbox(int batchSize, long leaseSeconds) {
+        List<AnalysisOutboxDto> pending = analysisPersistenceAdapter.selectPendingOutboxForUpdate(batchSize);
+        if (pending.isEmpty()) {
+            return pending;
+        }
+
+        List<Long> outboxIds = pending.stream().map(AnalysisOutboxDto::getOutboxId).toList();
+        if (analysisPersistenceAdapter.markOutboxSending(outboxIds, leaseSeconds) != outboxIds.size()) {
+            throw new RuntimeException("Outbox 메시지 발행 점유에 실패했습니다.");
+        }
+        return pending;
+    }
+
+    /**
+     * 점유한 Outbox 메시지 발행.
+     * <p>
+     * 다른 키의 메시지는 동시에 전송하고, 같은 message_key 의 메시지는 앞 메시지의 브로커 확인 뒤에 전송한다.
+     * 앞선 메시지가 실패하면 같은 키의 이후 메시지는 브로커로 보내지 않고 대기 상태로 되돌려
+     * 다음 주기에 실패한 메시지부터 다시 발행하며 (at-least-once), 다른 키의 메시지는 그대로 완료 처리한다.
+     * 최대 시도 횟수에 도달한 메시지는 DEAD 로 옮기고 분석 작업을 실패 처리해 같은 키의 발행을 더 막지 않는다.
+     * </p>
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param claimed {@link #claimPendingOutbox}로 점유한 메시지 목록
+     * @param sendTimeoutMs 배치 전체의 브로커 확인 대기 시간 (밀리초, 같은 키의 메시지는 차례로 확인하므로 그 합도 포함)
+     * @param maxAttempts 메시지별 최대 발행 시도 횟수
+     * @return 발행 완료 처리한 갯수
+     */
+    public int publishClaimedOutbox(List<AnalysisOutboxDto> claimed, long sendTimeoutMs, int maxAttempts) {
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 키는 앞 메시지의 전송 결과에 이어서 전송 (false: 앞 메시지 실패로 전송하지 않음)
+        // 앞 메시지가 마지막 시도에서 실패하면 DEAD 로 옮기므로 기다리지 않고 이어서 전송한다
+        AtomicBoolean abandoned = new AtomicBoolean();
+        Map<String, CompletableFuture<Boolean>> lastByKey = new HashMap<>();
+        Map<String, AnalysisOutboxDto> lastMessageByKey = new HashMap<>();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(claimed.size());
+        for (AnalysisOutboxDto message : claimed) {
+            String key = message.getMessageKey();
+            CompletableFuture<Boolean> previous = key != null ? lastByKey.get(key) : null;
+            CompletableFuture<Boolean> future;
+            if (previous == null) {
+                future = send(message);
+            } else {
+                boolean previousLastAttempt = nextAttempt(lastMessageByKey.get(key)) >= maxAttempts;
+                future = previous.handle((sent, ex) -> (ex == null ? sent : previousLastAttempt) && !abandoned.get())
+                        .thenCompose(ready -> ready ? send(message) : CompletableFuture.completedFuture(false));
+            }
+            futures.add(future);
+            if (key != null) {
+                lastByKey.put(key, future);
+                lastMessageByKey.put(key, message);
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>(claimed.size());
+        List<String> sentJobIds = new ArrayList<>(claimed.size());
+        List<Long> retryIds = new ArrayList<>();
+        List<Long> heldIds = new ArrayList<>();
+        List<Long> deadIds = new ArrayList<>();
+        List<String> deadJobIds = new ArrayList<>();
+        Set<String> blockedKeys = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        boolean interrupted = false;
+
+        for (int i = 0; i < claimed.size(); i++) {
+            AnalysisOutboxDto message = claimed.get(i);
+            if (interrupted || (message.getMessageKey() != null && blockedKeys.contains(message.getMessageKey()))) {
+                heldIds.add(message.getOutboxId());
+                continue;
+            }
+            try {
+                if (!futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    // 앞 메시지를 보내지 못해 (발행 포기 등) 전송하지 않은 경우, 다음 주기에 발행
+                    heldIds.add(message.getOutboxId());
+                    continue;
+                }
+                sentIds.add(message.getOutboxId());
+                sentJobIds.add(message.getAggregateId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                heldIds.add(message.getOutboxId());
+            } catch (Exception e) {
+                int attempts = nextAttempt(message);
+                if (attempts >= maxAttempts) {
+                    log.error("Outbox 메시지 발행 포기: outboxId={}, jobId={}, attempts={} - {}",
+                            message.getOutboxId(), message.getAggregateId(), attempts, e.getMessage());
+                    deadIds.add(message.getOutboxId());
+                    deadJobIds.add(message.getAggregateId());
+                } else {
+                    log.warn("Outbox 메시지 발행 실패: outboxId={}, jobId={}, attempts={} - {}",
+                            message.getOutboxId(), message.getAggregateId(), attempts, e.getMessage());
+                    retryIds.add(message.getOutboxId());
+                    if (message.getMessageKey() != null) {
+                        blockedKeys.add(message.getMessageKey());
+                    }
+                }
+            }
+        }
+
+        // 대기 시간을 넘겨 보류한 메시지의 같은 키 후속 전송이 나중에 시작되지 않도록
+        abandoned.set(true);
+
+        analysisPersistenceAdapter.markOutboxSent(sentIds);
+        analysisPersistenceAdapter.increaseOutboxAttempts(retryIds);
+        analysisPersistenceAdapter.releaseOutbox(heldIds);
+        analysisPersistenceAdapter.markOutboxDead(deadIds);
+        analysisPersistenceAdapter.markAnalysisJobsProcessing(sentJobIds);
+        deadJobIds.forEach(jobId -> analysisPersistenceAdapter.updateAnalysisJobStatus(jobId, AnalysisJobStatus.FAILED.name()));
+
+        if (sentIds.size() < claimed.size()) {
+            log.warn("Outbox 배치 일부 미발행: 발행 {}건, 재시도 대기 {}건, 보류 {}건, 발행 포기 {}건",
+                    sentIds.size(), retryIds.size(), heldIds.size(), deadIds.size());
+        }
+        return sentIds.size();
+    }
+
+    /**
+     * 이번 발행이 몇 번째 시도인지.
+     */
+    private static int nextAttempt(AnalysisOutboxDto message) {
+        return (message.getAttempts() != null ? message.getAttempts() : 0) + 1;
+    }
+
+    /**
+     * Outbox 메시지 하나를 브로커로 전송 (payload 변환 실패도 실패한 전송으로 취급).
+     */
+    private CompletableFuture<Boolean> send(AnalysisOutboxDto message) {
+        try {
+            ResumeAnalysisRequest request = objectMapper.readValue(message.getPayload(), ResumeAnalysisRequest.class);
+            return kafkaProducerService.publish(message.getTopic(), message.getMessageKey(), request)
+                    .thenApply(result -> true);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 분석 작업 등록.
+     */
+    private String insertAnalysisJob(String userId, String fileUrl, String contentHash) {
+        String jobId = UUID.randomUUID().toString();
+
+        AnalysisJobDto analysisJobDto = AnalysisJobDto.builder()
+                .jobId(jobId)
+                .userId(userId)
+                .fileUrl(fileUrl)
+                .contentHash(contentHash)
+                .status(AnalysisJobStatus.REQUESTED.name())
+                .build();
+        if (analysisPersistenceAdapter.insertAnalysisJob(analysisJobDto) == 0) {
+            throw new RuntimeException("분석 작업 등록에 실패했습니다.");
+        }
+        return jobId;
+    }
+
+    /**
+     * 분석 요청 Outbox 메시지 기록 (구간 추적 정보는 발행 시 헤더로 옮겨짐).
+     */
+    private void insertOutboxMessage(String jobId, String userId, String fileUrl, AnalysisTraceDto trace) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new ResumeAnalysisRequest(userId, fileUrl, jobId,
+                    trace.getCorrelationId(), trace.getSubmittedAt(), trace.getUploadCompletedAt()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("분석 요청 메시지 생성에 실패했습니다.", e);
+        }
+
+        AnalysisOutboxDto analysisOutboxDto = AnalysisOutboxDto.builder()
+                .aggregateId(jobId)
+                .topic(KafkaProducerService.TOPIC)
+                .messageKey(userId)
+                .payload(payload)
+                .status(OutboxStatus.PENDING.name())
+                .build();
+        if (analysisPersistenceAdapter.insertOutboxMessage(analysisOutboxDto) == 0) {
+            throw new RuntimeException("분석 요청 Outbox 기록에 실패했습니다.");
+        }
+    }
+}
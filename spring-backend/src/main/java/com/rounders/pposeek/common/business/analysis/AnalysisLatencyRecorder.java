@@ -0,0 +1,187 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.analysis;
+
+import org.springframework.stereotype.Component;
+
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisTraceDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이력서 분석 구간별 지연 시간 기록기.
+ * <p>
+ * 제출 시 만든 상관관계 ID와 구간 시각을 분석 요청 Kafka 헤더로 보내고, AI 서비스가 자기 시각을 더해
+ * 피드백 헤더로 돌려주면 피드백 수신 시 구간별 소요 시간을 resume.analysis.stage 타이머(stage)로 기록한다.
+ * - upload : 제출 수신 → Blob Storage 업로드 완료 (스토리지)
+ * - publish : 업로드 완료 → 분석 요청 발행 (Outbox 대기 + 발행)
+ * - request_queue : 발행 → AI 서비스 수신 (브로커)
+ * - ai : AI 서비스 수신 → 분석 완료 (AI 서비스)
+ * - feedback_queue : 분석 완료 → 피드백 수신 (브로커)
+ * - delivery : 피드백 수신 → 결과 저장 및 STOMP 전송 (전달)
+ * 서버 간 시각 차이로 음수가 나온 구간은 기록하지 않고 resume.analysis.stage.skew 로만 센다.
+ * 업로드와 피드백 처리는 상관관계 ID를 붙인 Observation 으로도 감싸 트레이싱 브리지가 있으면 스팬이 된다.
+ * </p>
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisLatencyRecorder {
+
+    /**
+     * 상관관계 ID 헤더 (AI 서비스는 pposeek- 헤더를 피드백에 그대로 돌려준다)
+     */
+    public static final String CORRELATION_ID_HEADER = "pposeek-correlation-id";
+    public static final String SUBMITTED_AT_HEADER = "pposeek-submitted-at";
+    public static final String UPLOAD_COMPLETED_AT_HEADER = "pposeek-upload-completed-at";
+
+    /**
+     * AI 서비스가 더하는 헤더 (요청 메시지 타임스탬프, 수신/완료 시각)
+     */
+    public static final String REQUEST_PUBLISHED_AT_HEADER = "pposeek-request-published-at";
+    public static final String AI_RECEIVED_AT_HEADER = "pposeek-ai-received-at";
+    public static final String AI_COMPLETED_AT_HEADER = "pposeek-ai-completed-at";
+
+    private static final String CORRELATION_ID_KEY = "correlation.id";
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * 제출 수신 시 추적 시작.
+     *
+     * @return 새 상관관계 ID와 수신 시각
+     */
+    public AnalysisTraceDto start() {
+        return AnalysisTraceDto.builder()
+                .correlationId(UUID.randomUUID().toString())
+                .submittedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * 업로드 구간 기록 (업로드 결과가 있으면 완료 시각을 추적 정보에 남김).
+     *
+     * @param trace 추적 정보
+     * @param upload 업로드 작업
+     * @return 업로드 결과
+     * @throws E 업로드 작업이 던진 예외
+     */
+    public <T, E extends Throwable> T observeUpload(AnalysisTraceDto trace, Observation.CheckedCallable<T, E> upload) throws E {
+        T result = observation("resume.analysis.upload", trace.getCorrelationId()).observeChecked(upload);
+        if (result != null) {
+            trace.setUploadCompletedAt(System.currentTimeMillis());
+            recordStage("upload", trace.getSubmittedAt(), trace.getUploadCompletedAt());
+        }
+        return result;
+    }
+
+    /**
+     * 피드백 처리 구간 Observation.
+     *
+     * @param correlationId 상관관계 ID (없으면 null)
+     * @param handler 피드백 처리
+     */
+    public void observeFeedback(String correlationId, Runnable handler) {
+        observation("resume.analysis.feedback", correlationId).observe(handler);
+    }
+
+    /**
+     * 피드백 헤더의 구간 시각으로 구간별/전체 소요 시간 기록.
+     *
+     * @param headers 피드백 메시지 헤더
+     * @param consumedAt 피드백 수신 시각 (epoch ms)
+     * @param pushed STOMP 로 바로 전송했는지 여부 (false: 미접속 대기열 보관)
+     */
+    public void recordFeedback(Map<String, Object> headers, long consumedAt, boolean pushed) {
+        long deliveredAt = System.currentTimeMillis();
+        Long submittedAt = epochMillis(headers.get(SUBMITTED_AT_HEADER));
+        Long publishedAt = epochMillis(headers.get(REQUEST_PUBLISHED_AT_HEADER));
+        Long aiReceivedAt = epochMillis(headers.get(AI_RECEIVED_AT_HEADER));
+        Long aiCompletedAt = epochMillis(headers.get(AI_COMPLETED_AT_HEADER));
+
+        recordStage("publish", epochMillis(headers.get(UPLOAD_COMPLETED_AT_HEADER)), publishedAt);
+        recordStage("request_queue", publishedAt, aiReceivedAt);
+        recordStage("ai", aiReceivedAt, aiCompletedAt);
+        recordStage("feedback_queue", aiCompletedAt, consumedAt);
+        recordStage("delivery", consumedAt, deliveredAt);
+
+        if (submittedAt != null && deliveredAt >= submittedAt) {
+            Timer.builder("resume.analysis.end_to_end")
+                    .description("이력서 제출부터 피드백 전달까지 소요 시간")
+                    .tag("delivery", pushed ? "pushed" : "pending")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(deliveredAt - submittedAt, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 헤더 값을 문자열로 (Kafka 헤더는 byte[] 로 매핑됨).
+     */
+    public static String headerValue(Object value) {
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private void recordStage(String stage, Long from, Long to) {
+        if (from == null || to == null) {
+            return;
+        }
+        if (to < from) {
+            meterRegistry.counter("resume.analysis.stage.skew", "stage", stage).increment();
+            return;
+        }
+        Timer.builder("resume.analysis.stage")
+                .description("이력서 분석 구간별 소요 시간")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(to - from, TimeUnit.MILLISECONDS);
+    }
+
+    private Observation observation(String name, String correlationId) {
+        Observation observation = Observation.createNotStarted(name, observationRegistry);
+        if (correlationId != null) {
+            // 메트릭 태그가 아닌 스팬 속성으로만 남김
+            observation.highCardinalityKeyValue(CORRELATION_ID_KEY, correlationId);
+        }
+        return observation;
+    }
+
+    private static Long epochMillis(Object value) {
+        String text = headerValue(value);
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            log.debug("구간 시각 헤더 형식 오류: {}", text);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.analysis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisOutboxDto;
+
+import java.util.List;
+
+/**
+ * 분석 요청 Outbox Relay.
+ * 발행 대기 중인 Outbox 메시지를 주기적으로 resume_analysis_request 토픽에 배치 발행한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisOutboxRelay {
+
+    private final AnalysisJobService analysisJobService;
+
+    @Value("${app.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${app.outbox.relay.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${app.outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    /**
+     * 발행 대기 메시지가 남아있는 동안 배치 단위로 발행한다.
+     * 점유(짧은 트랜잭션)와 브로커 확인 대기를 나눠, 대기하는 동안 Outbox 행 잠금을 잡지 않는다.
+     * 배치가 가득 차지 않았거나 일부가 실패하면 다음 주기로 넘긴다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.fixed-delay-ms:500}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                List<AnalysisOutboxDto> claimed = analysisJobService.claimPendingOutbox(batchSize, leaseSeconds);
+                published = analysisJobService.publishClaimedOutbox(claimed, sendTimeoutMs, maxAttempts);
+                if (published > 0) {
+                    log.debug("Outbox 메시지 {}건 발행 완료", published);
+                }
+            } while (published == batchSize);
+        } catch (Exception e) {
+            log.error("Outbox Relay 처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
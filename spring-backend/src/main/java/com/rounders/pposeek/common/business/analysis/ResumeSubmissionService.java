@@ -0,0 +1,165 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.analysis;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.business.blob_storage.AzureBlobStorageService;
+import com.rounders.pposeek.common.business.websocket.UserMessageDispatcher;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisJobDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisTraceDto;
+import com.rounders.pposeek.common.model.dto.blob.BlobUploadResultDto;
+import com.rounders.pposeek.common.model.dto.kafka.AnalysisFeedback;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 이력서 제출 처리 서비스.
+ * 이력서를 Blob Storage로 업로드하면서 계산한 SHA-256으로 같은 파일의 완료된 분석이 있는지 확인하고,
+ * 있으면 AI 서비스 호출 없이 이전 결과를 재사용한다. 없을 때만 분석 요청을 Outbox에 기록한다.
+ * 업로드 구간과 분석 요청은 컨트롤러에서 시작한 추적 정보(상관관계 ID)로 {@link AnalysisLatencyRecorder}에 기록한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeSubmissionService {
+
+    private final AzureBlobStorageService azureBlobStorageService;
+    private final AnalysisJobService analysisJobService;
+    private final UserMessageDispatcher userMessageDispatcher;
+    private final AnalysisLatencyRecorder analysisLatencyRecorder;
+
+    /**
+     * 이력서 업로드 및 분석 요청 (동기).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param file 업로드한 이력서 파일
+     * @param userId 사용자 ID
+     * @param trace 구간 추적 정보
+     * @return 재사용한 분석 결과 (새로 분석을 요청했으면 null)
+     * @throws IOException 파일 처리 중 오류 발생 시
+     */
+    public AnalysisFeedback uploadAndRequestAnalysis(MultipartFile file, String userId, AnalysisTraceDto trace) throws IOException {
+        BlobUploadResultDto upload = analysisLatencyRecorder.observeUpload(trace, () -> azureBlobStorageService.upload(file, userId));
+        return requestOrReuseAnalysis(upload, userId, trace);
+    }
+
+    /**
+     * 같은 파일의 완료된 분석이 있으면 재사용하고, 없으면 분석 요청을 기록.
+     * 분할 업로드처럼 업로드가 여러 요청에 걸쳐 끝나는 경로에서도 사용한다.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param upload 업로드 결과
+     * @param userId 사용자 ID
+     * @param trace 구간 추적 정보
+     * @return 재사용한 분석 결과 (새로 분석을 요청했으면 null)
+     */
+    public AnalysisFeedback requestOrReuseAnalysis(BlobUploadResultDto upload, String userId, AnalysisTraceDto trace) {
+        AnalysisJobDto doneJob = analysisJobService.findDoneAnalysis(userId, upload.getContentHash());
+        if (doneJob != null) {
+            return deliverReusedAnalysis(analysisJobService.reuseDoneAnalysis(
+                    null, userId, upload.getFileUrl(), upload.getContentHash(), doneJob), trace);
+        }
+
+        // Kafka 발행은 AnalysisOutboxRelay가 비동기로 처리
+        analysisJobService.requestAnalysis(userId, upload.getFileUrl(), upload.getContentHash(), trace);
+        return null;
+    }
+
+    /**
+     * 요청 본문 스트리밍 업로드 및 분석 요청 (동기, 임시 파일 없음).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param in 요청 본문 스트림
+     * @param originalFilename 원본 파일 이름
+     * @param userId 사용자 ID
+     * @param trace 구간 추적 정보
+     * @return 재사용한 분석 결과 (새로 분석을 요청했으면 null)
+     */
+    public AnalysisFeedback uploadStreamAndRequestAnalysis(InputStream in, String originalFilename, String userId,
+                                                           AnalysisTraceDto trace) {
+        BlobUploadResultDto upload = analysisLatencyRecorder.observeUpload(trace,
+                () -> azureBlobStorageService.uploadStream(in, originalFilename, userId));
+        return requestOrReuseAnalysis(upload, userId, trace);
+    }
+
+    /**
+     * 임시 파일 업로드 및 분석 요청 (비동기).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @param userId 사용자 ID
+     * @param tempFile 요청 스레드에서 저장한 임시 파일
+     * @param originalFilename 원본 파일 이름
+     * @param trace 구간 추적 정보 (제출 수신 시각부터 측정하므로 대기열 시간 포함)
+     */
+    @Async("analysisTaskExecutor")
+    public void uploadAndRequestAnalysis(String jobId, String userId, Path tempFile, String originalFilename,
+                                         AnalysisTraceDto trace) {
+        try {
+            BlobUploadResultDto upload = analysisLatencyRecorder.observeUpload(trace,
+                    () -> azureBlobStorageService.upload(tempFile, originalFilename, userId));
+
+            AnalysisJobDto doneJob = analysisJobService.findDoneAnalysis(userId, upload.getContentHash());
+            if (doneJob != null) {
+                deliverReusedAnalysis(analysisJobService.reuseDoneAnalysis(
+                        jobId, userId, upload.getFileUrl(), upload.getContentHash(), doneJob), trace);
+                return;
+            }
+            analysisJobService.requestAnalysis(jobId, userId, upload.getFileUrl(), upload.getContentHash(), trace);
+        } catch (Exception e) {
+            log.error("이력서 비동기 제출 실패: jobId={}, userId={} - {}", jobId, userId, e.getMessage(), e);
+            analysisJobService.failAnalysisJob(jobId);
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    /**
+     * 재사용한 분석 결과를 AI 서비스 결과와 같은 WebSocket 채널로 전송.
+     */
+    private AnalysisFeedback deliverReusedAnalysis(AnalysisFeedback feedback, AnalysisTraceDto trace) {
+        feedback.setCorrelationId(trace.getCorrelationId());
+        userMessageDispatcher.sendToUser(feedback.getUserId(), "/queue/feedback", feedback);
+        return feedback;
+    }
+
+    /**
+     * 임시 파일 삭제.
+     * 
+     * @param tempFile 임시 파일
+     */
+    public void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+}
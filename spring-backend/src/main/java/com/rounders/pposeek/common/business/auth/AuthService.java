@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.rounders.pposeek.common.config.JwtConfig;
+import com.rounders.pposeek.common.model.dto.auth.ActiveSessionPageDto;
 import com.rounders.pposeek.common.model.dto.auth.LoginDto;
 import com.rounders.pposeek.common.model.dto.auth.RegisterDto;
 import com.rounders.pposeek.common.model.dto.auth.TokenInfo;
@@ -21,6 +22,7 @@ import com.rounders.pposeek.common.model.dto.auth.UserSessionDto;
 import com.rounders.pposeek.common.model.dto.user.UserDto;
 import com.rounders.pposeek.common.persistence.auth.AuthPersistenceAdapter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -40,6 +42,13 @@ public class AuthService {
     private final AuthPersistenceAdapter authPersistenceAdapter;
     private final JwtConfig jwtConfig;
     private final PasswordEncoder passwordEncoder;
+    private final UserVersionCache userVersionCache;
+    private final UserSessionPartitionService userSessionPartitionService;
+
+    /**
+     * 활성 세션 최대 페이지 크기
+     */
+    private static final int MAX_SESSION_PAGE_SIZE = 100;
 
     /**
      * 사용자 로그인.
@@ -127,17 +136,27 @@ public class AuthService {
      * @return 사용자 정보
      */
     public UserDto getCurrentUserById(Integer userId) {
-        log.info("사용자 ID로 정보 조회: {}", userId);
+        log.debug("사용자 ID로 정보 조회: {}", userId);
         UserDto userDto = authPersistenceAdapter.selectUserById(userId);
         if (userDto != null) {
             userDto.setPasswordHash(null);
-            log.info("사용자 정보 조회 성공: userId={}, name={}", userId, userDto.getName());
+            log.debug("사용자 정보 조회 성공: userId={}", userId);
         } else {
             log.warn("사용자 정보를 찾을 수 없음: userId={}", userId);
         }
         return userDto;
     }
 
+    /**
+     * 사용자 정보 버전 조회 (/me ETag 용, 캐시 우선).
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 정보 버전 (사용자가 없으면 null)
+     */
+    public Integer getUserVersion(Integer userId) {
+        return userVersionCache.get(userId, authPersistenceAdapter::selectUserVersion);
+    }
+
     /**
      * 사용자명 중복 체크.
      * 
@@ -195,16 +214,43 @@ public class AuthService {
     }
 
     /**
-     * 사용자의 활성 세션 목록 조회.
+     * 사용자의 활성 세션 목록 조회 (키셋 페이징, 최근 활동순).
      * 
      * @author siunkimm@gmail.com
      * @since 2025
      * 
      * @param userId 사용자 ID
-     * @return 활성 세션 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 활성 세션 페이지 (세션 토큰 제외)
+     * @throws IllegalArgumentException 잘못된 cursor
      */
-    public List<UserSessionDto> getActiveSessionsByUserId(Integer userId) {
-        return authPersistenceAdapter.findActiveSessionsByUserId(userId);
+    public ActiveSessionPageDto getActiveSessions(Integer userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SESSION_PAGE_SIZE);
+        LocalDateTime cursorActivity = null;
+        Long cursorSessionId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            // "{lastActivity}_{sessionId}"
+            int separator = cursor.lastIndexOf('_');
+            try {
+                cursorActivity = LocalDateTime.parse(cursor.substring(0, separator));
+                cursorSessionId = Long.valueOf(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다: " + cursor, e);
+            }
+        }
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 판단한다
+        List<UserSessionDto> rows = authPersistenceAdapter.findActiveSessionsByUserId(
+                userId, cursorActivity, cursorSessionId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<UserSessionDto> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        UserSessionDto last = hasNext ? items.get(items.size() - 1) : null;
+        return ActiveSessionPageDto.builder()
+                .items(items)
+                .nextCursor(last != null ? last.getLastActivity() + "_" + last.getSessionId() : null)
+                .build();
     }
 
     /**
@@ -221,22 +267,22 @@ public class AuthService {
     }
 
     /**
-     * 만료된 세션 정리.
+     * 만료된 세션 정리 (보관 기간이 지난 일 파티션 삭제).
      * 
      * @author siunkimm@gmail.com
      * @since 2025
      * 
-     * @return 정리된 세션 수
+     * @return 삭제한 파티션 수
      */
     public int cleanupExpiredSessions() {
-        return authPersistenceAdapter.cleanupExpiredSessions();
+        return userSessionPartitionService.dropExpiredPartitions();
     }
 
     /**
      * 토큰 정보 생성 및 세션 생성.
      */
     private TokenInfo generateAndBuildTokenInfo(UserDto userDto, String sessionName) {
-        String jwtToken = jwtConfig.generateToken(userDto.getUserId(), userDto.getName(), userDto.getEmail());
+        String jwtToken = jwtConfig.generateToken(userDto.getUserId(), userDto.getName(), userDto.getEmail(), userDto.getRole());
         log.info("JWT 토큰 생성 완료: userId={}", userDto.getUserId());
         
         // 세션 생성
@@ -245,6 +291,7 @@ public class AuthService {
         
         // 마지막 로그인 시간 업데이트
         authPersistenceAdapter.updateLastLogin(userDto.getUserId());
+        userVersionCache.evict(userDto.getUserId());
         
         userDto.setPasswordHash(null);
         return TokenInfo.builder()
@@ -0,0 +1,162 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.model.dto.auth.UserSessionPartitionDto;
+import com.rounders.pposeek.common.persistence.auth.AuthPersistenceAdapter;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * UserSessions 일 단위 파티션 관리.
+ * <p>
+ * 세션은 생성일(created_at) 기준 일 파티션(pyyyyMMdd)에 쌓이고, 아직 만들지 않은 날짜는 p_future(MAXVALUE)에 들어간다.
+ * 매일 p_future 를 나눠 앞으로의 파티션을 미리 만들고, 보관 기간이 지난 파티션은 통째로 삭제한다. (행 단위 DELETE 없음)
+ * 보관 기간은 JWT 만료 시간보다 길어야 한다. (파티션 삭제는 생성일 기준이라 사용 중인 세션도 함께 지워진다)
+ * </p>
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Service
+public class UserSessionPartitionService {
+
+    private static final Pattern DAY_PARTITION = Pattern.compile("p\\d{8}");
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final AuthPersistenceAdapter authPersistenceAdapter;
+    private final int retentionDays;
+    private final int precreateDays;
+
+    /**
+     * 파티션 날짜 기준 시계 (TO_DAYS(created_at) 는 DB 세션 시간대 날짜라 같은 시간대를 사용)
+     */
+    private final Clock clock;
+
+    public UserSessionPartitionService(AuthPersistenceAdapter authPersistenceAdapter,
+                                       @Value("${app.auth.session-partition.retention-days:3}") int retentionDays,
+                                       @Value("${app.auth.session-partition.precreate-days:7}") int precreateDays,
+                                       @Value("${app.auth.session-partition.zone-id:Asia/Seoul}") String zoneId) {
+        this.authPersistenceAdapter = authPersistenceAdapter;
+        this.retentionDays = retentionDays;
+        this.precreateDays = precreateDays;
+        this.clock = Clock.system(ZoneId.of(zoneId));
+    }
+
+    /**
+     * 기동 시와 매일 파티션 정리 (만료 파티션 삭제 후 미래 파티션 생성).
+     * 여러 인스턴스가 동시에 실행해 DDL 이 충돌하면 한쪽은 실패 로그만 남기고, 다음 실행에서 다시 맞춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.auth.session-partition.cron:0 10 0 * * *}",
+               zone = "${app.auth.session-partition.zone-id:Asia/Seoul}")
+    public void maintainPartitions() {
+        List<String> partitionNames = authPersistenceAdapter.selectUserSessionPartitionNames();
+        if (partitionNames.isEmpty()) {
+            log.warn("UserSessions 가 파티션 테이블이 아닙니다. db/alter/user_sessions_partition.sql 적용이 필요합니다.");
+            return;
+        }
+        LocalDate today = LocalDate.now(clock);
+        dropPartitions(planExpiredPartitions(partitionNames, today, retentionDays));
+        addPartitions(planFuturePartitions(partitionNames, today, precreateDays));
+    }
+
+    /**
+     * 보관 기간이 지난 일 파티션 삭제.
+     *
+     * @return 삭제한 파티션 수
+     */
+    public int dropExpiredPartitions() {
+        return dropPartitions(planExpiredPartitions(authPersistenceAdapter.selectUserSessionPartitionNames(),
+                LocalDate.now(clock), retentionDays));
+    }
+
+    /**
+     * 삭제할 파티션 이름 계산.
+     * 파티션 pD 는 D 다음 날 0시 미만의 created_at 을 보관하므로, D 가 보관 시작일(today - retentionDays)보다 앞이면 전체가 만료.
+     *
+     * @param partitionNames 현재 파티션 이름 목록
+     * @param today 기준 날짜 (DB 세션 시간대)
+     * @param retentionDays 보관 일수
+     * @return 삭제할 파티션 이름 목록 (일 파티션만, p_future 제외)
+     */
+    static List<String> planExpiredPartitions(List<String> partitionNames, LocalDate today, int retentionDays) {
+        LocalDate retainFrom = today.minusDays(retentionDays);
+        return partitionNames.stream()
+                .filter(name -> DAY_PARTITION.matcher(name).matches())
+                .filter(name -> LocalDate.parse(name, PARTITION_DAY).isBefore(retainFrom))
+                .toList();
+    }
+
+    /**
+     * 새로 만들 파티션 계산.
+     * p_future 는 맨 위에서만 나눌 수 있으므로 마지막 일 파티션 다음 날부터 today + precreateDays 까지.
+     * (정리가 며칠 밀렸으면 빠진 날짜부터 채우고, 처음이면 오늘 파티션이 이전 행을 모두 가져감)
+     *
+     * @param partitionNames 현재 파티션 이름 목록
+     * @param today 기준 날짜 (DB 세션 시간대)
+     * @param precreateDays 미리 만들어 둘 일 수
+     * @return 새로 만들 파티션 목록 (날짜 오름차순, 없으면 빈 목록)
+     */
+    static List<UserSessionPartitionDto> planFuturePartitions(List<String> partitionNames, LocalDate today,
+                                                              int precreateDays) {
+        LocalDate lastDay = partitionNames.stream()
+                .filter(name -> DAY_PARTITION.matcher(name).matches())
+                .map(name -> LocalDate.parse(name, PARTITION_DAY))
+                .max(LocalDate::compareTo)
+                .orElse(null);
+
+        LocalDate from = lastDay != null ? lastDay.plusDays(1) : today;
+        List<UserSessionPartitionDto> partitions = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(today.plusDays(precreateDays)); day = day.plusDays(1)) {
+            partitions.add(UserSessionPartitionDto.builder()
+                    .partitionName(day.format(PARTITION_DAY))
+                    .lessThan(day.plusDays(1).toString())
+                    .build());
+        }
+        return partitions;
+    }
+
+    private int dropPartitions(List<String> expired) {
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        int dropped = authPersistenceAdapter.dropUserSessionPartitions(expired);
+        if (dropped > 0) {
+            log.info("만료된 세션 파티션 삭제: {}", expired);
+        }
+        return dropped;
+    }
+
+    private void addPartitions(List<UserSessionPartitionDto> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        if (authPersistenceAdapter.addUserSessionPartitions(partitions) > 0) {
+            log.info("세션 파티션 생성: {} ~ {}", partitions.get(0).getPartitionName(),
+                    partitions.get(partitions.size() - 1).getPartitionName());
+        }
+    }
+}
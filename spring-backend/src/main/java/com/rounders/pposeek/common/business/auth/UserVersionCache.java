@@ -0,0 +1,81 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 사용자 정보 버전 캐시 (사용자 ID -> User.version).
+ * <p>
+ * /api/auth/me 조건부 요청(If-None-Match)을 DB 조회 없이 판단하기 위해 사용한다.
+ * 이 인스턴스에서 수정한 사용자는 커밋 직후 제거하고, 다른 인스턴스의 수정은 TTL 안에 반영된다.
+ * </p>
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Component
+public class UserVersionCache {
+
+    private final Cache<Integer, Integer> versions;
+
+    public UserVersionCache(MeterRegistry meterRegistry,
+                            @Value("${app.auth.user-version-cache.max-size:10000}") long maxSize,
+                            @Value("${app.auth.user-version-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "userVersion");
+    }
+
+    /**
+     * 사용자 정보 버전 조회 (캐시에 없으면 loader 로 조회 후 저장).
+     *
+     * @param userId 사용자 ID
+     * @param loader 버전 조회 함수 (사용자가 없으면 null)
+     * @return 사용자 정보 버전 (사용자가 없으면 null)
+     */
+    public Integer get(Integer userId, Function<Integer, Integer> loader) {
+        return versions.get(userId, loader);
+    }
+
+    /**
+     * 사용자 정보 버전 제거.
+     * 트랜잭션 안이면 커밋 후에 제거해서, 커밋 전 값이 다시 캐시되지 않도록 한다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Integer userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                versions.invalidate(userId);
+            }
+        });
+    }
+}
@@ -2,51 +2,428 @@ package com.rounders.pposeek.common.business.blob_storage;
 
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.ListBlobsOptions;
+import com.azure.storage.common.policy.RequestRetryOptions;
+import com.azure.storage.common.policy.RetryPolicyType;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Service;
+import com.rounders.pposeek.common.model.dto.blob.BlobUploadResultDto;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
-public class AzureBlobStorageService {
+public class AzureBlobStorageService implements DisposableBean {
+
+    private final String connectionString;
+    private final String containerName;
+    private final RequestRetryOptions retryOptions;
+    private final BlobBlockUploader blobBlockUploader;
+
+    /**
+     * 스트리밍 업로드 최대 크기 (바이트)
+     */
+    private final long streamMaxSize;
+
+    /**
+     * 컨테이너 클라이언트 (처음 사용할 때 생성, 네트워크 호출 없음)
+     */
+    private volatile BlobContainerClient containerClient;
+    private final ReentrantLock containerClientLock = new ReentrantLock();
 
-    private final BlobContainerClient containerClient;
+    /**
+     * 컨테이너 준비 완료 여부
+     */
+    private volatile boolean containerReady;
+
+    /**
+     * 컨테이너 준비 시도 횟수 / 마지막 실패 (헬스 체크에는 예외 종류만 표시)
+     */
+    private final AtomicInteger provisioningAttempts = new AtomicInteger();
+    private final ReentrantLock provisioningLock = new ReentrantLock();
+    private volatile RuntimeException lastProvisioningFailure;
+
+    private final long provisioningInitialDelayMs;
+    private final long provisioningMaxDelayMs;
+    private final ThreadPoolTaskScheduler provisioningScheduler;
 
     public AzureBlobStorageService(
             @Value("${azure.blob.connection-string}") String connectionString,
-            @Value("${azure.blob.container-name}") String containerName) {
-        
-        BlobServiceClient blobServiceClient = new BlobServiceClientBuilder()
-                .connectionString(connectionString)
-                .buildClient();
-        
-        this.containerClient = blobServiceClient.getBlobContainerClient(containerName);
-        if (!containerClient.exists()) {
-            containerClient.create();
+            @Value("${azure.blob.container-name}") String containerName,
+            @Value("${app.upload.stream.max-size:10MB}") DataSize streamMaxSize,
+            @Value("${app.upload.retry.max-tries:4}") int maxTries,
+            @Value("${app.upload.retry.try-timeout-seconds:60}") int tryTimeoutSeconds,
+            @Value("${app.upload.retry.retry-delay-ms:500}") long retryDelayMs,
+            @Value("${app.upload.retry.max-retry-delay-ms:8000}") long maxRetryDelayMs,
+            @Value("${app.upload.provisioning.initial-delay-ms:1000}") long provisioningInitialDelayMs,
+            @Value("${app.upload.provisioning.max-delay-ms:60000}") long provisioningMaxDelayMs,
+            BlobBlockUploader blobBlockUploader) {
+        this.connectionString = connectionString;
+        this.containerName = containerName;
+        this.streamMaxSize = streamMaxSize.toBytes();
+        this.blobBlockUploader = blobBlockUploader;
+        // 요청(블록) 단위 재시도 - 파일 전체를 다시 보내지 않고 실패한 블록만 다시 보냅니다.
+        this.retryOptions = new RequestRetryOptions(RetryPolicyType.EXPONENTIAL,
+                maxTries, tryTimeoutSeconds, retryDelayMs, maxRetryDelayMs, null);
+        this.provisioningInitialDelayMs = provisioningInitialDelayMs;
+        this.provisioningMaxDelayMs = provisioningMaxDelayMs;
+
+        // 생성자에서는 Azure를 호출하지 않습니다. (기동 시간이 Storage 응답에 좌우되지 않도록)
+        this.provisioningScheduler = new ThreadPoolTaskScheduler();
+        this.provisioningScheduler.setPoolSize(1);
+        this.provisioningScheduler.setThreadNamePrefix("blob-provision-");
+        this.provisioningScheduler.initialize();
+    }
+
+    /**
+     * 기동이 끝나면 컨테이너 준비를 백그라운드로 시작합니다.
+     * 실패하면 지수 백오프로 재시도하며, 그 사이 업로드 요청이 오면 요청 스레드에서 한 번 더 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void provisionContainerAsync() {
+        scheduleProvisioning(0);
+    }
+
+    private void scheduleProvisioning(long delayMs) {
+        provisioningScheduler.schedule(() -> {
+            if (!ensureContainer()) {
+                long nextDelayMs = Math.min(Math.max(delayMs * 2, provisioningInitialDelayMs), provisioningMaxDelayMs);
+                log.warn("Blob 컨테이너 준비 실패 ({}회), {}ms 후 재시도: {}", provisioningAttempts.get(), nextDelayMs, String.valueOf(lastProvisioningFailure));
+                scheduleProvisioning(nextDelayMs);
+            }
+        }, Instant.now().plusMillis(delayMs));
+    }
+
+    /**
+     * 컨테이너가 없으면 생성합니다. (준비된 뒤에는 네트워크 호출 없음)
+     * @return 준비 완료 여부
+     */
+    private boolean ensureContainer() {
+        if (containerReady) {
+            return true;
+        }
+        // 준비 전에 몰린 요청이 모두 컨테이너 생성을 호출하지 않도록 한 번에 하나만 시도
+        provisioningLock.lock();
+        try {
+            if (containerReady) {
+                return true;
+            }
+            provisioningAttempts.incrementAndGet();
+            containerClient().createIfNotExists();
+            containerReady = true;
+            lastProvisioningFailure = null;
+            log.info("Blob 컨테이너 준비 완료: {} ({}회 시도)", containerName, provisioningAttempts.get());
+            return true;
+        } catch (RuntimeException e) {
+            lastProvisioningFailure = e;
+            return false;
+        } finally {
+            provisioningLock.unlock();
+        }
+    }
+
+    /**
+     * 컨테이너 클라이언트 (처음 호출할 때 생성).
+     */
+    private BlobContainerClient containerClient() {
+        BlobContainerClient client = containerClient;
+        if (client == null) {
+            // synchronized 대신 ReentrantLock - 가상 스레드가 대기 중 캐리어 스레드를 고정(pinning)하지 않도록
+            containerClientLock.lock();
+            try {
+                client = containerClient;
+                if (client == null) {
+                    client = new BlobServiceClientBuilder()
+                            .connectionString(connectionString)
+                            .retryOptions(retryOptions)
+                            .buildClient()
+                            .getBlobContainerClient(containerName);
+                    containerClient = client;
+                }
+            } finally {
+                containerClientLock.unlock();
+            }
         }
+        return client;
     }
 
     /**
-     * 파일을 Azure Blob Storage에 업로드하고 해당 URL을 반환합니다.
+     * 업로드 대상 컨테이너 클라이언트 (컨테이너가 아직 준비되지 않았으면 먼저 준비).
+     */
+    private BlobContainerClient readyContainerClient() {
+        if (!ensureContainer()) {
+            throw new IllegalStateException("Blob container is not ready: " + lastProvisioningFailure, lastProvisioningFailure);
+        }
+        return containerClient();
+    }
+
+    /**
+     * 컨테이너 준비 상태 (헬스 체크용).
+     * @return 준비 완료 여부
+     */
+    public boolean isContainerReady() {
+        return containerReady;
+    }
+
+    /**
+     * 컨테이너 준비 시도 횟수 (헬스 체크용).
+     * @return 시도 횟수
+     */
+    public int getProvisioningAttempts() {
+        return provisioningAttempts.get();
+    }
+
+    /**
+     * 마지막 컨테이너 준비 실패 예외 종류 (헬스 체크용, 메시지에는 계정/엔드포인트 정보가 있을 수 있어 노출하지 않음).
+     * @return 예외 클래스 이름 (없으면 null)
+     */
+    public String getLastProvisioningError() {
+        RuntimeException failure = lastProvisioningFailure;
+        return failure != null ? failure.getClass().getSimpleName() : null;
+    }
+
+    /**
+     * 컨테이너 이름 (헬스 체크용).
+     * @return 컨테이너 이름
+     */
+    public String getContainerName() {
+        return containerName;
+    }
+
+    @Override
+    public void destroy() {
+        provisioningScheduler.shutdown();
+    }
+
+    /**
+     * 파일을 Azure Blob Storage에 업로드하고 해당 URL과 내용 해시를 반환합니다.
+     * 해시는 업로드 스트림을 그대로 통과시키며 계산하므로 파일을 다시 읽지 않습니다.
      * @param file 업로드할 MultipartFile
      * @param userId 사용자 ID
-     * @return 업로드된 파일의 URL
+     * @return 업로드 결과 (URL, SHA-256, 크기)
      * @throws IOException 파일 처리 중 오류 발생 시
      */
-    public String upload(MultipartFile file, String userId) throws IOException {
-        // ⭐ [수정됨] 파일명을 'user_{userId}_{원본파일이름}' 형식으로 변경합니다.
-        String blobFilename = String.format("user_%s_%s", userId, file.getOriginalFilename());
+    public BlobUploadResultDto upload(MultipartFile file, String userId) throws IOException {
+        String blobFilename = uploadBlobName(userId, file.getOriginalFilename());
+
+        try (InputStream in = file.getInputStream()) {
+            return upload(blobFilename, in, "multipart");
+        }
+    }
+
+    /**
+     * 로컬 임시 파일을 Azure Blob Storage에 업로드하고 해당 URL과 내용 해시를 반환합니다.
+     * 비동기 제출 경로에서 요청 스레드 밖에서 호출됩니다.
+     * @param file 업로드할 로컬 파일 경로
+     * @param originalFilename 원본 파일 이름
+     * @param userId 사용자 ID
+     * @return 업로드 결과 (URL, SHA-256, 크기)
+     */
+    public BlobUploadResultDto upload(Path file, String originalFilename, String userId) {
+        String blobFilename = uploadBlobName(userId, originalFilename);
 
-        // BlobClient를 가져옵니다.
-        BlobClient blobClient = containerClient.getBlobClient(blobFilename);
+        try (InputStream in = Files.newInputStream(file)) {
+            return upload(blobFilename, in, "file");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 요청 본문 스트림을 임시 파일 없이 블록 단위로 바로 업로드합니다.
+     * 전체 크기를 모르므로 읽는 동안 크기 제한과 SHA-256을 함께 계산하며,
+     * 제한을 넘으면 블록 목록을 커밋하지 않고 중단합니다. (커밋되지 않은 블록은 Azure가 정리)
+     * @param in 요청 본문 스트림
+     * @param originalFilename 원본 파일 이름
+     * @param userId 사용자 ID
+     * @return 업로드 결과 (URL, SHA-256, 크기)
+     * @throws MaxUploadSizeExceededException 최대 크기를 넘은 경우
+     */
+    public BlobUploadResultDto uploadStream(InputStream in, String originalFilename, String userId) {
+        String blobFilename = uploadBlobName(userId, originalFilename);
+        SizeLimitedInputStream limited = new SizeLimitedInputStream(in, streamMaxSize);
+        try {
+            return upload(blobFilename, limited, "stream");
+        } catch (IOException e) {
+            if (limited.isLimitExceeded()) {
+                throw new MaxUploadSizeExceededException(streamMaxSize, e);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        // 파일을 업로드합니다.
-        blobClient.upload(file.getInputStream(), file.getSize(), true); // true는 덮어쓰기 허용
+    /**
+     * 업로드마다 다른 Blob 이름 (user_{userId}_{UUID}_{파일 이름}).
+     * 분석 작업은 file_url 과 내용 해시를 함께 저장하고 나중에 Blob 을 읽으므로,
+     * 같은 파일 이름의 다음 업로드가 분석 전에 Blob 을 덮어쓰지 않도록 한다.
+     */
+    private static String uploadBlobName(String userId, String originalFilename) {
+        return String.format("user_%s_%s_%s", userId, UUID.randomUUID(), originalFilename);
+    }
+
+    /**
+     * 분할 업로드 파트 하나를 블록으로 전송합니다. (complete 전까지는 Blob에 반영되지 않음)
+     * 블록은 업로드 세션마다 다른 Blob 이름에 올라가므로 같은 파일 이름의 다른 업로드가 커밋해도 버려지지 않습니다.
+     * (완료되지 않은 세션의 블록은 Storage가 커밋 없이 일정 기간이 지나면 정리)
+     * @param userId 사용자 ID
+     * @param originalFilename 원본 파일 이름
+     * @param uploadId 업로드 세션 ID
+     * @param partNumber 파트 번호 (1부터)
+     * @param data 파트 데이터
+     */
+    public void stageUploadPart(String userId, String originalFilename, String uploadId, int partNumber, byte[] data) {
+        BlobClient blobClient = uploadPartsBlobClient(userId, originalFilename, uploadId);
+        blobBlockUploader.stagePart(blobClient.getBlockBlobClient(), uploadId, partNumber, data);
+    }
+
+    /**
+     * 분할 업로드 파트를 순서대로 커밋하고 URL과 내용 해시를 반환합니다.
+     * 파트는 여러 요청에 걸쳐 (재전송 포함) 올라오므로 전체 SHA-256은 커밋한 Blob을 한 번 읽어 계산합니다.
+     * @param userId 사용자 ID
+     * @param originalFilename 원본 파일 이름
+     * @param uploadId 업로드 세션 ID
+     * @param partCount 파트 수
+     * @return 업로드 결과 (URL, SHA-256, 크기)
+     */
+    public BlobUploadResultDto commitUploadParts(String userId, String originalFilename, String uploadId, int partCount) {
+        BlobClient blobClient = uploadPartsBlobClient(userId, originalFilename, uploadId);
+        blobBlockUploader.commitParts(blobClient.getBlockBlobClient(), uploadId, partCount);
+        return readUploadResult(blobClient);
+    }
+
+    /**
+     * 분할 업로드 세션의 Blob (user_{userId}_{uploadId}_{파일 이름}).
+     */
+    private BlobClient uploadPartsBlobClient(String userId, String originalFilename, String uploadId) {
+        return readyContainerClient().getBlobClient(String.format("user_%s_%s_%s", userId, uploadId, originalFilename));
+    }
+
+    /**
+     * 이미 올라간 Blob을 한 번 읽어 URL, 내용 해시, 크기를 구합니다.
+     * (스트림은 읽기 시작 시점의 ETag로 고정되므로 읽는 중에 덮어쓰이면 실패)
+     */
+    BlobUploadResultDto readUploadResult(BlobClient blobClient) {
+        MessageDigest sha256 = sha256();
+        long size;
+        try (InputStream in = new DigestInputStream(blobClient.openInputStream(), sha256)) {
+            size = in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return BlobUploadResultDto.builder()
+                .fileUrl(blobClient.getBlobUrl())
+                .contentHash(HexFormat.of().formatHex(sha256.digest()))
+                .size(size)
+                .build();
+    }
 
-        // 업로드된 파일의 URL을 반환합니다.
-        return blobClient.getBlobUrl();
+    /**
+     * 컨테이너의 Blob 클라이언트 (SAS 발급, 직접 업로드 확인용).
+     */
+    BlobClient getBlobClient(String blobName) {
+        return containerClient().getBlobClient(blobName);
+    }
+
+    /**
+     * 접두어로 시작하는 Blob 목록 (속성 포함, 페이지 단위로 조회).
+     */
+    Iterable<BlobItem> listBlobs(String prefix) {
+        return containerClient().listBlobs(new ListBlobsOptions().setPrefix(prefix), null);
+    }
+
+    /**
+     * 스트림을 SHA-256 계산과 함께 블록 병렬 업로드합니다.
+     */
+    private BlobUploadResultDto upload(String blobFilename, InputStream in, String source) throws IOException {
+        MessageDigest sha256 = sha256();
+        BlobClient blobClient = readyContainerClient().getBlobClient(blobFilename);
+
+        // 블록 크기만큼 읽으며 해시를 계산하고, 읽은 블록은 병렬로 전송합니다. (기존 Blob은 덮어씀)
+        long size = blobBlockUploader.upload(blobClient.getBlockBlobClient(), new DigestInputStream(in, sha256), source);
+
+        return BlobUploadResultDto.builder()
+                .fileUrl(blobClient.getBlobUrl())
+                .contentHash(HexFormat.of().formatHex(sha256.digest()))
+                .size(size)
+                .build();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 세고 최대 크기를 넘으면 읽기를 중단하는 스트림.
+     */
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+        private long count;
+        private boolean limitExceeded;
+
+        private SizeLimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                addCount(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                addCount(n);
+            }
+            return n;
+        }
+
+        private void addCount(long n) throws IOException {
+            count += n;
+            if (count > maxSize) {
+                limitExceeded = true;
+                throw new IOException("Upload exceeds " + maxSize + " bytes");
+            }
+        }
+
+        private boolean isLimitExceeded() {
+            return limitExceeded;
+        }
     }
 }
@@ -0,0 +1,223 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.blob_storage;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.azure.core.util.BinaryData;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blob 블록 병렬 업로더.
+ * 스트림을 블록 크기만큼 순서대로 읽어 업로드당 최대 동시 전송 수만큼 병렬로 stageBlock 한 뒤
+ * 모든 블록이 올라가면 commitBlockList 로 확정한다.
+ * - 재시도는 SDK 요청 재시도 정책으로 블록 단위로 이루어진다. (블록 데이터는 메모리에 있어 재전송 가능)
+ * - 메모리 사용량은 업로드당 블록 크기 × (최대 동시 전송 수 + 1) 이내
+ * - 블록 하나보다 작은 파일은 한 번의 요청으로 업로드
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Component
+public class BlobBlockUploader {
+
+    private final Executor blobUploadExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int blockSize;
+    private final int maxConcurrency;
+
+    public BlobBlockUploader(@Qualifier("blobUploadExecutor") Executor blobUploadExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.upload.block-size:1MB}") DataSize blockSize,
+                             @Value("${app.upload.max-concurrency:4}") int maxConcurrency) {
+        this.blobUploadExecutor = blobUploadExecutor;
+        this.meterRegistry = meterRegistry;
+        this.blockSize = Math.toIntExact(blockSize.toBytes());
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * 스트림을 블록 단위로 병렬 업로드 (기존 Blob은 덮어씀).
+     * 중간에 실패하면 블록 목록을 커밋하지 않으므로 기존 Blob은 그대로 남는다.
+     *
+     * @param blobClient 대상 Block Blob
+     * @param in 업로드할 스트림 (끝까지 읽음)
+     * @param source 업로드 경로 메트릭 태그 (multipart, file, stream)
+     * @return 업로드한 바이트 수
+     * @throws IOException 스트림 읽기 실패 시
+     */
+    public long upload(BlockBlobClient blobClient, InputStream in, String source) throws IOException {
+        long startNanos = System.nanoTime();
+        long total = 0;
+        String outcome = "error";
+        try {
+            byte[] block = in.readNBytes(blockSize);
+            if (block.length < blockSize) {
+                blobClient.upload(BinaryData.fromBytes(block), true);
+                total = block.length;
+            } else {
+                total = stageAndCommit(blobClient, in, block);
+            }
+            outcome = "success";
+            return total;
+        } finally {
+            record(source, outcome, total, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * 분할 업로드 파트 하나를 블록으로 전송 (커밋하지 않음).
+     * 블록 ID가 업로드 ID와 파트 번호로 정해지므로 같은 파트를 다시 보내면 이전 블록을 대체한다.
+     *
+     * @param blobClient 대상 Block Blob
+     * @param uploadId 업로드 세션 ID (UUID)
+     * @param partNumber 파트 번호 (1부터)
+     * @param data 파트 데이터
+     */
+    public void stagePart(BlockBlobClient blobClient, String uploadId, int partNumber, byte[] data) {
+        stageBlock(blobClient, blockId(uploadId, partNumber), data);
+    }
+
+    /**
+     * 분할 업로드 파트 1..partCount 를 순서대로 커밋 (기존 Blob은 덮어씀).
+     *
+     * @param blobClient 대상 Block Blob
+     * @param uploadId 업로드 세션 ID (UUID)
+     * @param partCount 파트 수
+     */
+    public void commitParts(BlockBlobClient blobClient, String uploadId, int partCount) {
+        List<String> blockIds = new ArrayList<>(partCount);
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            blockIds.add(blockId(uploadId, partNumber));
+        }
+        blobClient.commitBlockList(blockIds, true);
+        log.debug("Blob 분할 업로드 커밋: {}, {} parts", blobClient.getBlobName(), partCount);
+    }
+
+    /**
+     * 블록 병렬 전송 후 블록 목록 커밋.
+     */
+    private long stageAndCommit(BlockBlobClient blobClient, InputStream in, byte[] firstBlock) throws IOException {
+        // 같은 이름으로 동시에 올라오는 업로드와 블록이 섞이지 않도록 업로드마다 다른 블록 ID 사용
+        String uploadId = UUID.randomUUID().toString();
+        Semaphore inFlight = new Semaphore(maxConcurrency);
+        List<String> blockIds = new ArrayList<>();
+        List<CompletableFuture<Void>> stages = new ArrayList<>();
+        long total = 0;
+
+        try {
+            byte[] block = firstBlock;
+            while (block.length > 0) {
+                acquire(inFlight);
+                // 앞선 블록이 실패했으면 나머지는 읽지 않고 중단
+                stages.stream().filter(CompletableFuture::isCompletedExceptionally).findFirst().ifPresent(CompletableFuture::join);
+
+                String blockId = blockId(uploadId, blockIds.size());
+                byte[] data = block;
+                blockIds.add(blockId);
+                CompletableFuture<Void> stage = CompletableFuture.runAsync(() -> stageBlock(blobClient, blockId, data), blobUploadExecutor);
+                stage.whenComplete((result, e) -> inFlight.release());
+                stages.add(stage);
+                total += block.length;
+
+                block = in.readNBytes(blockSize);
+            }
+
+            CompletableFuture.allOf(stages.toArray(CompletableFuture[]::new)).join();
+        } catch (IOException | RuntimeException e) {
+            // 커밋하지 않은 블록은 Azure가 정리하므로 대기 중인 블록은 보내지 않고 중단
+            stages.forEach(stage -> stage.cancel(false));
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        blobClient.commitBlockList(blockIds, true);
+        log.debug("Blob 블록 업로드 완료: {}, {} blocks, {} bytes", blobClient.getBlobName(), blockIds.size(), total);
+        return total;
+    }
+
+    private void stageBlock(BlockBlobClient blobClient, String blockId, byte[] data) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            blobClient.stageBlock(blockId, BinaryData.fromBytes(data));
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("blob.upload.block")
+                    .description("Blob 블록 하나의 전송 시간 (SDK 재시도 포함)")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void record(String source, String outcome, long bytes, long elapsedNanos) {
+        Timer.builder("blob.upload")
+                .description("Blob 업로드 전체 시간")
+                .tag("source", source)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if ("success".equals(outcome) && elapsedNanos > 0) {
+            DistributionSummary.builder("blob.upload.throughput")
+                    .description("Blob 업로드 처리량 (초당 바이트)")
+                    .baseUnit("bytes")
+                    .tag("source", source)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(bytes * 1_000_000_000d / elapsedNanos);
+        }
+    }
+
+    private static void acquire(Semaphore semaphore) throws IOException {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Blob 업로드 중단", e);
+        }
+    }
+
+    /**
+     * 블록 ID (한 Blob 안에서는 길이가 모두 같아야 함).
+     * 병렬 업로드와 분할 업로드 모두 UUID 기반이라 같은 Blob에 섞여도 길이가 같다.
+     */
+    private static String blockId(String uploadId, int index) {
+        String raw = String.format("%s-%06d", uploadId, index);
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
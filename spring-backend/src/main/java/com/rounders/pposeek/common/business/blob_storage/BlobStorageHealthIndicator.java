@@ -0,0 +1,44 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.blob_storage;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Blob Storage 준비 상태 헬스 인디케이터 (/actuator/health/storage).
+ * 컨테이너 준비 전에는 OUT_OF_SERVICE(503)로 보고한다. 전체 상태는 상태 우선순위 설정으로 OUT_OF_SERVICE 보다 UP 을 앞세워
+ * Storage 장애가 애플리케이션 전체 상태(UP)를 내리지 않게 하고, Storage 준비 여부는 storage 그룹으로 따로 확인한다.
+ * 네트워크 호출 없이 마지막 준비 결과만 보고하며, 상세 정보는 공개되므로 실패 사유는 예외 종류만 표시한다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Component("blobStorage")
+public class BlobStorageHealthIndicator implements HealthIndicator {
+
+    private final AzureBlobStorageService azureBlobStorageService;
+
+    public BlobStorageHealthIndicator(AzureBlobStorageService azureBlobStorageService) {
+        this.azureBlobStorageService = azureBlobStorageService;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = azureBlobStorageService.isContainerReady() ? Health.up() : Health.outOfService();
+        builder.withDetail("container", azureBlobStorageService.getContainerName())
+                .withDetail("attempts", azureBlobStorageService.getProvisioningAttempts());
+        if (azureBlobStorageService.getLastProvisioningError() != null) {
+            builder.withDetail("error", azureBlobStorageService.getLastProvisioningError());
+        }
+        return builder.build();
+    }
+}
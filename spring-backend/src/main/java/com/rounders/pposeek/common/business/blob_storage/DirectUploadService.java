@@ -0,0 +1,209 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.blob_storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import com.azure.core.util.polling.PollResponse;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.models.BlobBeginCopySourceRequestConditions;
+import com.azure.storage.blob.models.BlobCopyInfo;
+import com.azure.storage.blob.models.BlobErrorCode;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.CopyStatusType;
+import com.azure.storage.blob.options.BlobBeginCopyOptions;
+import com.azure.storage.blob.sas.BlobSasPermission;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import com.rounders.pposeek.common.model.dto.blob.BlobUploadResultDto;
+import com.rounders.pposeek.common.model.dto.blob.DirectUploadDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Blob Storage 직접 업로드 서비스.
+ * <p>
+ * 서버가 정한 Blob 이름에 대해 만료 시간이 짧은 쓰기 전용(create/write) SAS URL을 발급하고,
+ * 클라이언트가 Storage로 직접 올린 뒤 확인을 요청하면 크기를 검증하고 서버 소유 이름으로 복사한 뒤 복사본의 내용 해시를 구한다.
+ * SAS는 확인 후에도 만료 전까지 유효하므로, 분석은 클라이언트가 더 이상 쓸 수 없는 복사본으로만 한다.
+ * 파일 바이트가 nginx/Tomcat/JVM 메모리를 거치지 않는다. (Storage 내부 복사 1회, 해시 계산을 위한 읽기 1회)
+ * 확인되지 않은 업로드는 크기 제한 없이 남을 수 있으므로 주기적으로 삭제한다.
+ * 브라우저에서 올리려면 Storage 계정 CORS에 프런트엔드 Origin의 PUT을 허용해야 한다.
+ * </p>
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Service
+public class DirectUploadService {
+
+    /**
+     * 직접 업로드 Blob 이름 접두어 (확인 전 업로드만 이 접두어를 쓰므로 정리 시 이 범위만 나열한다)
+     */
+    private static final String DIRECT_PREFIX = "direct_";
+
+    private final AzureBlobStorageService azureBlobStorageService;
+    private final MeterRegistry meterRegistry;
+    private final long sasTtlMinutes;
+    private final long maxSize;
+    private final long unconfirmedRetentionMinutes;
+    private final long copyTimeoutSeconds;
+
+    public DirectUploadService(AzureBlobStorageService azureBlobStorageService,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.upload.direct.sas-ttl-minutes:10}") long sasTtlMinutes,
+                               @Value("${app.upload.direct.max-size:50MB}") DataSize maxSize,
+                               @Value("${app.upload.direct.unconfirmed-retention-minutes:60}") long unconfirmedRetentionMinutes,
+                               @Value("${app.upload.direct.copy-timeout-seconds:60}") long copyTimeoutSeconds) {
+        this.azureBlobStorageService = azureBlobStorageService;
+        this.meterRegistry = meterRegistry;
+        this.sasTtlMinutes = sasTtlMinutes;
+        this.maxSize = maxSize.toBytes();
+        this.unconfirmedRetentionMinutes = Math.max(unconfirmedRetentionMinutes, sasTtlMinutes);
+        this.copyTimeoutSeconds = copyTimeoutSeconds;
+    }
+
+    /**
+     * 직접 업로드용 쓰기 전용 SAS URL 발급.
+     *
+     * @param userId 사용자 ID
+     * @param originalFilename 원본 파일 이름
+     * @return 업로드 발급 정보
+     */
+    public DirectUploadDto createUpload(String userId, String originalFilename) {
+        // 사용자 접두어 + 업로드마다 다른 이름이라 다른 업로드나 기존 파일을 덮어쓸 수 없음
+        String blobName = String.format("%s%s_%s", userPrefix(userId), UUID.randomUUID(), originalFilename);
+        BlobClient blobClient = azureBlobStorageService.getBlobClient(blobName);
+
+        OffsetDateTime expiresAt = OffsetDateTime.now().plusMinutes(sasTtlMinutes);
+        BlobSasPermission permission = new BlobSasPermission()
+                .setCreatePermission(true)
+                .setWritePermission(true);
+        String sas = blobClient.generateSas(new BlobServiceSasSignatureValues(expiresAt, permission));
+
+        meterRegistry.counter("blob.upload.direct", "event", "issued").increment();
+        return DirectUploadDto.builder()
+                .blobName(blobName)
+                .uploadUrl(blobClient.getBlobUrl() + "?" + sas)
+                .expiresAt(expiresAt)
+                .maxSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 직접 업로드 확인. 크기를 검증하고 서버 소유 이름으로 복사한 뒤 복사본의 내용 해시를 구한다.
+     * 복사본 이름은 업로드 이름에서 정해지므로 같은 업로드는 한 번만 확인된다.
+     *
+     * @param userId 사용자 ID
+     * @param blobName 발급받은 Blob 이름
+     * @return 복사본 업로드 결과 (다른 사용자의 Blob이거나 아직 올라오지 않았으면 null)
+     * @throws MaxUploadSizeExceededException 최대 크기를 넘은 경우 (Blob은 삭제)
+     * @throws IllegalStateException 이미 확인했거나 확인 중에 다시 업로드된 경우
+     */
+    public BlobUploadResultDto confirmUpload(String userId, String blobName) {
+        String prefix = userPrefix(userId);
+        if (blobName == null || !blobName.startsWith(prefix) || blobName.contains("/")) {
+            return null;
+        }
+
+        BlobClient uploadClient = azureBlobStorageService.getBlobClient(blobName);
+        BlobProperties properties;
+        try {
+            properties = uploadClient.getProperties();
+        } catch (BlobStorageException e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+
+        if (properties.getBlobSize() > maxSize) {
+            uploadClient.deleteIfExists();
+            meterRegistry.counter("blob.upload.direct", "event", "rejected").increment();
+            throw new MaxUploadSizeExceededException(maxSize);
+        }
+
+        // 크기를 확인한 버전만 복사 (If-Match), 복사본이 이미 있으면 확인된 업로드 (If-None-Match: *)
+        BlobClient confirmedClient = azureBlobStorageService.getBlobClient(
+                String.format("user_%s_%s", userId, blobName.substring(prefix.length())));
+        try {
+            PollResponse<BlobCopyInfo> copy = confirmedClient.beginCopy(new BlobBeginCopyOptions(uploadClient.getBlobUrl())
+                            .setSourceRequestConditions(new BlobBeginCopySourceRequestConditions().setIfMatch(properties.getETag()))
+                            .setDestinationRequestConditions(new BlobRequestConditions().setIfNoneMatch("*")))
+                    .waitForCompletion(Duration.ofSeconds(copyTimeoutSeconds));
+            if (copy.getValue().getCopyStatus() != CopyStatusType.SUCCESS) {
+                throw new IllegalStateException("Upload copy " + copy.getValue().getCopyStatus() + ": " + blobName);
+            }
+        } catch (BlobStorageException e) {
+            if (BlobErrorCode.BLOB_ALREADY_EXISTS.equals(e.getErrorCode())
+                    || BlobErrorCode.TARGET_CONDITION_NOT_MET.equals(e.getErrorCode())) {
+                throw new IllegalStateException("Upload already confirmed: " + blobName, e);
+            }
+            if (BlobErrorCode.SOURCE_CONDITION_NOT_MET.equals(e.getErrorCode())) {
+                throw new IllegalStateException("Upload changed during confirmation: " + blobName, e);
+            }
+            throw e;
+        }
+
+        BlobUploadResultDto result = azureBlobStorageService.readUploadResult(confirmedClient);
+
+        // 복사가 끝난 업로드는 삭제 (실패해도 정리 작업이 지운다)
+        try {
+            uploadClient.deleteIfExists();
+        } catch (BlobStorageException e) {
+            log.warn("확인된 직접 업로드 삭제 실패: {} - {}", blobName, e.getMessage());
+        }
+
+        meterRegistry.counter("blob.upload.direct", "event", "confirmed").increment();
+        log.info("직접 업로드 확인: {}, {} bytes", blobName, result.getSize());
+        return result;
+    }
+
+    /**
+     * 보관 시간이 지나도록 확인되지 않은 직접 업로드 삭제.
+     * 여러 인스턴스가 함께 실행해도 삭제는 멱등이다.
+     */
+    @Scheduled(fixedDelayString = "${app.upload.direct.cleanup-interval-ms:600000}")
+    public void deleteUnconfirmedUploads() {
+        if (!azureBlobStorageService.isContainerReady()) {
+            return;
+        }
+
+        OffsetDateTime cutoff = OffsetDateTime.now().minusMinutes(unconfirmedRetentionMinutes);
+        int deleted = 0;
+        for (BlobItem blob : azureBlobStorageService.listBlobs(DIRECT_PREFIX)) {
+            if (blob.getProperties().getLastModified().isBefore(cutoff)
+                    && azureBlobStorageService.getBlobClient(blob.getName()).deleteIfExists()) {
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            meterRegistry.counter("blob.upload.direct", "event", "expired").increment(deleted);
+            log.info("확인되지 않은 직접 업로드 삭제: {}건", deleted);
+        }
+    }
+
+    private static String userPrefix(String userId) {
+        return String.format("%suser_%s_", DIRECT_PREFIX, userId);
+    }
+}
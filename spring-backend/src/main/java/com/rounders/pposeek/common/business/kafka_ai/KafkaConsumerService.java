@@ -1,6 +1,9 @@
 package com.rounders.pposeek.common.business.kafka_ai;
 import lombok.extern.slf4j.Slf4j; // 로깅 하기 위한 SLF4J 임포트
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rounders.pposeek.common.business.analysis.AnalysisJobService;
+import com.rounders.pposeek.common.business.analysis.AnalysisLatencyRecorder;
+import com.rounders.pposeek.common.business.websocket.UserMessageDispatcher;
 import com.rounders.pposeek.common.model.dto.kafka.AnalysisFeedback;
 import com.rounders.pposeek.common.model.dto.kafka.Notification;
 import lombok.RequiredArgsConstructor;
@@ -8,7 +11,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Map;
 
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.handler.annotation.Headers;
 import org.springframework.stereotype.Service;
 
 @Slf4j // SLF4J 로깅을 위한 어노테이션
@@ -16,57 +19,65 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class KafkaConsumerService {
 
-    // 웹소켓 메시지를 보내기 위한 템플릿 주입
-    private final SimpMessagingTemplate messagingTemplate;
+    public static final String FEEDBACK_TOPIC = "analysis_feedback_topic";
+    public static final String NOTIFICATION_TOPIC = "notification_topic";
+
+    private static final String ANALYSIS_FAILED_MESSAGE = "이력서 분석에 실패했습니다. 잠시 후 다시 시도해 주세요.";
+
+    // 웹소켓 메시지 전송 (미접속 사용자는 재접속 시까지 보관)
+    private final UserMessageDispatcher userMessageDispatcher;
     private final ObjectMapper objectMapper;
+    private final AnalysisJobService analysisJobService;
+    private final AnalysisLatencyRecorder analysisLatencyRecorder;
 
-    @KafkaListener(topics = "analysis_feedback_topic", containerFactory = "kafkaListenerContainerFactory")
-    public void consumeFeedback(Map<String, Object> feedbackMap) {
-        try {
-            log.info("📨 Received feedback map {} ", feedbackMap);
-            
-            // Map을 AnalysisFeedback DTO로 변환
-            AnalysisFeedback feedback = objectMapper.convertValue(feedbackMap, AnalysisFeedback.class);
-            
-            log.info("✅ Converted to DTO for user {} ", feedback.getUserId());
-            
-            // 사용자별 WebSocket 채널로 피드백 전송
-            messagingTemplate.convertAndSendToUser(
-                feedback.getUserId(), 
-                "/queue/feedback", 
-                feedback
-            );
-            
-            log.info("✅ Feedback sent to user {}", feedback.getUserId());
-            log.info("메시지 템플릿 내용 {} ",messagingTemplate);
-            
-        } catch (Exception e) {
-            log.error("❌ Error processing feedback " + e.getMessage() +  e);
+    // 처리 실패 시 예외를 그대로 던져 KafkaRetryConfig의 재시도/DLT 정책에 맡긴다
+    // AI 서비스가 돌려준 구간 추적 헤더로 구간별 소요 시간을 기록한다
+    @KafkaListener(topics = FEEDBACK_TOPIC, containerFactory = "kafkaListenerContainerFactory")
+    public void consumeFeedback(Map<String, Object> feedbackMap, @Headers Map<String, Object> headers) {
+        long consumedAt = System.currentTimeMillis();
+        // Map을 AnalysisFeedback DTO로 변환 (분석 내용은 로그에 남기지 않음)
+        AnalysisFeedback feedback = objectMapper.convertValue(feedbackMap, AnalysisFeedback.class);
+        if (feedback.getCorrelationId() == null) {
+            feedback.setCorrelationId(AnalysisLatencyRecorder.headerValue(headers.get(AnalysisLatencyRecorder.CORRELATION_ID_HEADER)));
         }
+        
+        log.debug("📨 Received feedback: userId={}, jobId={}, correlationId={}", feedback.getUserId(), feedback.getJobId(), feedback.getCorrelationId());
+
+        analysisLatencyRecorder.observeFeedback(feedback.getCorrelationId(), () -> {
+            // 오프라인 사용자도 나중에 조회할 수 있도록 결과를 먼저 저장 (이미 완료된 작업이면 재시도 시 건너뜀)
+            analysisJobService.completeAnalysisJob(feedback);
+            
+            // 사용자별 WebSocket 채널로 피드백 전송 (실패한 분석은 결과가 아니라 오류 알림으로 보낸다)
+            boolean pushed = AnalysisJobService.isCompleted(feedback)
+                ? userMessageDispatcher.sendToUser(feedback.getUserId(), "/queue/feedback", feedback)
+                : userMessageDispatcher.sendToUser(feedback.getUserId(), "/queue/notifications", analysisFailedNotification(feedback));
+            analysisLatencyRecorder.recordFeedback(headers, consumedAt, pushed);
+        });
+        
+        log.debug("✅ Feedback sent to user {}", feedback.getUserId());
     }
 
-    @KafkaListener(topics = "notification_topic", containerFactory = "kafkaListenerContainerFactory")
+    private static Notification analysisFailedNotification(AnalysisFeedback feedback) {
+        Notification notification = new Notification();
+        notification.setUserId(feedback.getUserId());
+        notification.setMessage(ANALYSIS_FAILED_MESSAGE);
+        return notification;
+    }
+
+    @KafkaListener(topics = NOTIFICATION_TOPIC, containerFactory = "kafkaListenerContainerFactory")
     public void consumeNotification(Map<String, Object> notificationMap) {
-        try {
-            log.info("🔔 Received notification map {}", notificationMap);
-            
-            // Map을 Notification DTO로 변환
-            Notification notification = objectMapper.convertValue(notificationMap, Notification.class);
-            
-            log.info("✅ Converted to DTO for user {} ", notification.getUserId());
-            
-            // 사용자별 WebSocket 채널로 알림 전송
-            messagingTemplate.convertAndSendToUser(
-                notification.getUserId(), 
-                "/queue/notifications", 
-                notification
-            );
-            log.info("메시지 템플릿 내용 : " + messagingTemplate);
-            
-            log.info("✅ Notification sent to user " + notification.getUserId());
-            
-        } catch (Exception e) {
-            log.error("❌ Error processing notification: {}" + e.getMessage() + e);
-        }
+        // Map을 Notification DTO로 변환
+        Notification notification = objectMapper.convertValue(notificationMap, Notification.class);
+        
+        log.debug("🔔 Received notification: userId={}", notification.getUserId());
+        
+        // 사용자별 WebSocket 채널로 알림 전송
+        userMessageDispatcher.sendToUser(
+            notification.getUserId(), 
+            "/queue/notifications", 
+            notification
+        );
+        
+        log.debug("✅ Notification sent to user {}", notification.getUserId());
     }
 }
@@ -0,0 +1,238 @@
+package com.rounders.pposeek.common.business.kafka_ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka Consumer 실패 메시지(DLT) 처리 서비스
+ * - 재시도/DLT 메트릭 기록
+ * - DLT 메시지를 원래 토픽으로 재주입 (관리자 API)
+ */
+@Slf4j
+@Service
+public class KafkaDeadLetterService implements DisposableBean {
+
+    public static final String DLT_SUFFIX = "-dlt";
+
+    /**
+     * 재주입 가능한 원본 토픽
+     */
+    private static final Set<String> REPLAYABLE_TOPICS = Set.of(
+            KafkaConsumerService.FEEDBACK_TOPIC,
+            KafkaConsumerService.NOTIFICATION_TOPIC
+    );
+
+    private static final String REPLAY_GROUP_ID = "pposeek_dlt_replay";
+    private static final Duration REPLAY_POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final long REPLAY_SEND_TIMEOUT_SECONDS = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final String bootstrapServers;
+    private final KafkaTemplate<String, byte[]> replayKafkaTemplate;
+
+    /**
+     * 재주입 전용 Producer Factory (빈이 아니므로 종료 시 직접 닫는다, 테스트에서 템플릿을 넘기면 null)
+     */
+    private final DefaultKafkaProducerFactory<String, byte[]> replayProducerFactory;
+
+    @Autowired
+    public KafkaDeadLetterService(MeterRegistry meterRegistry,
+                                  @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers) {
+        this.meterRegistry = meterRegistry;
+        this.bootstrapServers = bootstrapServers;
+
+        // 재주입은 DLT에 저장된 바이트를 변환 없이 그대로 복사한다
+        Map<String, Object> producerProps = Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        this.replayProducerFactory = new DefaultKafkaProducerFactory<>(
+                producerProps, new StringSerializer(), new ByteArraySerializer());
+        this.replayKafkaTemplate = new KafkaTemplate<>(replayProducerFactory);
+    }
+
+    KafkaDeadLetterService(MeterRegistry meterRegistry, KafkaTemplate<String, byte[]> replayKafkaTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.bootstrapServers = null;
+        this.replayKafkaTemplate = replayKafkaTemplate;
+        this.replayProducerFactory = null;
+    }
+
+    /**
+     * 재주입 Producer 의 네트워크 스레드와 연결 정리
+     */
+    @Override
+    public void destroy() {
+        if (replayProducerFactory != null) {
+            replayProducerFactory.destroy();
+        }
+    }
+
+    /**
+     * 재시도 대상 실패 기록 (DefaultErrorHandler RetryListener)
+     */
+    public void recordFailedDelivery(ConsumerRecord<?, ?> record, Exception ex, int deliveryAttempt) {
+        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+        Counter.builder("kafka.consumer.errors")
+                .description("Kafka Consumer 처리 실패 횟수")
+                .tag("topic", record.topic())
+                .tag("exception", cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+
+        log.warn("Kafka 메시지 처리 실패 (시도 {}): topic={}, partition={}, offset={} - {}",
+                deliveryAttempt, record.topic(), record.partition(), record.offset(), cause.getMessage());
+    }
+
+    /**
+     * 재시도를 모두 소진한 메시지 처리 (RetryTopicConfiguration DLT Handler)
+     * 메시지는 DLT에 남아 있으므로 기록만 하고 재주입은 {@link #replay(String, int)}로 수행한다
+     */
+    public void handleDeadLetter(ConsumerRecord<String, Object> record) {
+        String originalTopic = headerValue(record, KafkaHeaders.ORIGINAL_TOPIC);
+        String topic = originalTopic != null ? originalTopic : record.topic();
+
+        Counter.builder("kafka.consumer.dead.letters")
+                .description("재시도를 소진하고 DLT로 이동한 메시지 수")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .increment();
+
+        log.error("Kafka 메시지 DLT 이동: topic={}, key={}, exception={}",
+                topic, record.key(), headerValue(record, KafkaHeaders.EXCEPTION_MESSAGE));
+    }
+
+    /**
+     * DLT 메시지를 원래 토픽으로 재주입
+     *
+     * @param topic 원본 토픽 이름
+     * @param maxRecords 최대 재주입 건수
+     * @return 재주입한 메시지 수
+     */
+    public int replay(String topic, int maxRecords) {
+        if (!REPLAYABLE_TOPICS.contains(topic)) {
+            throw new IllegalArgumentException("재주입할 수 없는 토픽입니다: " + topic);
+        }
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, REPLAY_GROUP_ID);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxRecords);
+
+        try (Consumer<String, byte[]> consumer =
+                     new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer())) {
+            return replay(consumer, topic, maxRecords);
+        }
+    }
+
+    /**
+     * 주어진 Consumer로 DLT 메시지를 재주입 (커밋한 오프셋부터 요청 시작 시점의 끝 오프셋까지)
+     *
+     * @param consumer DLT를 읽을 Consumer (파티션 할당은 이 메서드에서 한다)
+     * @param topic 원본 토픽 이름
+     * @param maxRecords 최대 재주입 건수
+     * @return 재주입한 메시지 수
+     */
+    int replay(Consumer<String, byte[]> consumer, String topic, int maxRecords) {
+        String dltTopic = topic + DLT_SUFFIX;
+        int replayed = 0;
+        try {
+            // 그룹 리밸런스를 기다리지 않도록 파티션을 직접 할당하고, 커밋된 오프셋부터 읽는다
+            List<TopicPartition> partitions = consumer.partitionsFor(dltTopic).stream()
+                    .map(info -> new TopicPartition(dltTopic, info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            // 재주입한 메시지가 다시 실패해 DLT로 돌아와도 이번 요청에서는 다시 읽지 않도록 시작 시점의 끝까지만 처리
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            while (replayed < maxRecords && !reachedEnd(consumer, endOffsets)) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(REPLAY_POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+                // 파티션별로 처리하지 않은 첫 레코드 (끝 오프셋 도달 또는 최대 건수 도달)
+                Map<TopicPartition, Long> unprocessed = new HashMap<>();
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (unprocessed.containsKey(partition)) {
+                        continue;
+                    }
+                    if (replayed >= maxRecords || record.offset() >= endOffsets.get(partition)) {
+                        unprocessed.put(partition, record.offset());
+                        continue;
+                    }
+                    String originalTopic = headerValue(record, KafkaHeaders.ORIGINAL_TOPIC);
+                    replayKafkaTemplate.send(new ProducerRecord<>(
+                            originalTopic != null ? originalTopic : topic, record.key(), record.value()))
+                            .get(REPLAY_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+                    // 한 건씩 커밋해서 중간에 실패해도 다음 재주입이 이어서 진행되도록 한다
+                    consumer.commitSync(Map.of(partition, new OffsetAndMetadata(record.offset() + 1)));
+                    replayed++;
+                }
+                // poll 로 이미 넘어간 위치를 처리하지 않은 첫 레코드로 되돌려 위치와 커밋 오프셋을 맞추고,
+                // 끝 오프셋에 도달한 파티션은 남은 파티션을 처리하는 동안 다시 읽지 않는다
+                unprocessed.forEach((partition, offset) -> {
+                    consumer.seek(partition, offset);
+                    if (offset >= endOffsets.get(partition)) {
+                        consumer.pause(List.of(partition));
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재주입이 중단되었습니다.", e);
+        } catch (Exception e) {
+            log.error("DLT 재주입 실패: topic={}, 재주입 {}건 - {}", dltTopic, replayed, e.getMessage(), e);
+            throw new IllegalStateException("DLT 재주입에 실패했습니다.", e);
+        }
+
+        Counter.builder("kafka.consumer.dead.letters.replayed")
+                .description("DLT에서 원래 토픽으로 재주입한 메시지 수")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .increment(replayed);
+
+        log.info("DLT 재주입 완료: topic={}, {}건", dltTopic, replayed);
+        return replayed;
+    }
+
+    private static boolean reachedEnd(Consumer<?, ?> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream()
+                .allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    private static String headerValue(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
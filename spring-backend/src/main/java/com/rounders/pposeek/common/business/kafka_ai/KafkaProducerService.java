@@ -1,18 +1,53 @@
 package com.rounders.pposeek.common.business.kafka_ai;
 
+import com.rounders.pposeek.common.business.analysis.AnalysisLatencyRecorder;
 import com.rounders.pposeek.common.model.dto.kafka.ResumeAnalysisRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KafkaProducerService {
-    private static final String TOPIC = "resume_analysis_request";
+    public static final String TOPIC = "resume_analysis_request";
     private final KafkaTemplate<String, ResumeAnalysisRequest> kafkaTemplate;
 
     public void sendResumeAnalysisRequest(ResumeAnalysisRequest request) {
-        System.out.println("Produce message: " + request.getFileUrl());
+        log.debug("Produce message: jobId={}", request.getJobId());
         this.kafkaTemplate.send(TOPIC, request);
     }
+
+    /**
+     * Outbox Relay용 발행. 브로커 확인(ack)을 기다릴 수 있도록 Future를 반환합니다.
+     * 같은 사용자의 요청이 같은 파티션에 순서대로 쌓이도록 key를 지정합니다.
+     * 구간 추적 정보는 헤더로 보내며, AI 서비스가 피드백 헤더로 그대로 돌려줍니다.
+     */
+    public CompletableFuture<SendResult<String, ResumeAnalysisRequest>> publish(String topic, String key, ResumeAnalysisRequest request) {
+        return this.kafkaTemplate.send(new ProducerRecord<>(topic, null, key, request, traceHeaders(request)));
+    }
+
+    private static List<Header> traceHeaders(ResumeAnalysisRequest request) {
+        List<Header> headers = new ArrayList<>(3);
+        addHeader(headers, AnalysisLatencyRecorder.CORRELATION_ID_HEADER, request.getCorrelationId());
+        addHeader(headers, AnalysisLatencyRecorder.SUBMITTED_AT_HEADER, request.getSubmittedAt());
+        addHeader(headers, AnalysisLatencyRecorder.UPLOAD_COMPLETED_AT_HEADER, request.getUploadCompletedAt());
+        return headers;
+    }
+
+    private static void addHeader(List<Header> headers, String name, Object value) {
+        if (value != null) {
+            headers.add(new RecordHeader(name, value.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
 }
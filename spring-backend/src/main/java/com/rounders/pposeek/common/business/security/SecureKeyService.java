@@ -1,22 +1,29 @@
 package com.rounders.pposeek.common.business.security;
 
 import com.azure.security.keyvault.secrets.SecretClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 /**
  * 보안 키 관리 서비스
  * 
  * Azure Key Vault 또는 환경변수에서 JWT, 암호화 키들을 안전하게 가져옴
+ * 조회 시간은 security.secret.fetch 타이머(secret, outcome)로 기록
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SecureKeyService {
 
+    // Key Vault URI 가 없으면 AzureKeyVaultConfig 가 null 을 돌려주므로 선택 의존성 (환경변수 fallback)
+    @Nullable
     private final SecretClient secretClient;
+    private final MeterRegistry meterRegistry;
 
     // 환경변수 fallback 값들
     @Value("${jwt.secret:pposeek-jwt-secret-key-for-token-signing-must-be-32-chars-minimum}")
@@ -73,25 +80,38 @@ public class SecureKeyService {
      * Key Vault 또는 환경변수에서 시크릿 가져오기
      */
     private String getSecret(String secretName, String fallbackValue) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // keyvault: Key Vault 값 사용, empty/error/disabled: 환경변수 fallback 사용
+        String outcome = "disabled";
         try {
             if (secretClient != null) {
-                log.info("Key Vault에서 시크릿 조회 시도: {}", secretName);
+                log.debug("Key Vault에서 시크릿 조회 시도: {}", secretName);
                 String secret = secretClient.getSecret(secretName).getValue();
                 if (secret != null && !secret.isEmpty()) {
-                    log.info("Key Vault에서 시크릿 조회 성공: {} (길이: {})", secretName, secret.length());
+                    log.debug("Key Vault에서 시크릿 조회 성공: {}", secretName);
+                    outcome = "keyvault";
                     return secret;
                 } else {
                     log.warn("Key Vault에서 시크릿이 비어있음: {}", secretName);
+                    outcome = "empty";
                 }
             } else {
                 log.warn("Key Vault 클라이언트가 null입니다. 환경변수 fallback 사용");
             }
         } catch (Exception e) {
             log.error("Key Vault에서 시크릿 조회 실패: {} - {}", secretName, e.getMessage());
+            outcome = "error";
+        } finally {
+            sample.stop(Timer.builder("security.secret.fetch")
+                    .description("시크릿 조회 시간 (Key Vault 왕복 포함)")
+                    .tag("secret", secretName)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
 
         // Key Vault 실패시 환경변수 fallback
-        log.info("환경변수 fallback 사용: {} (길이: {})", secretName, fallbackValue.length());
+        log.debug("환경변수 fallback 사용: {}", secretName);
         return fallbackValue;
     }
 }
@@ -0,0 +1,264 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.upload;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.business.blob_storage.AzureBlobStorageService;
+import com.rounders.pposeek.common.model.constant.UploadSessionStatus;
+import com.rounders.pposeek.common.model.dto.blob.BlobUploadResultDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadPartDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadSessionDto;
+import com.rounders.pposeek.common.persistence.upload.UploadSessionPersistenceAdapter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 재개 가능한 분할 업로드 서비스.
+ * <p>
+ * initiate → 파트 N 업로드 → complete 순서로 진행하며, 파트 하나가 커밋 전 Blob 블록 하나가 된다.
+ * 전송이 끊기면 클라이언트는 세션 조회로 확인된 파트 목록을 받아 빠진 파트만 다시 보낸다.
+ * 세션 상태는 UploadSession/UploadPart 테이블에 두고, 파트를 받을 때마다 만료 시간을 연장한다.
+ * (만료된 세션의 커밋되지 않은 블록은 Azure가 정리)
+ * </p>
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private final AzureBlobStorageService azureBlobStorageService;
+    private final UploadSessionPersistenceAdapter uploadSessionPersistenceAdapter;
+    private final MeterRegistry meterRegistry;
+
+    private final int partSize;
+    private final long maxSize;
+    private final long ttlMinutes;
+
+    public ChunkedUploadService(AzureBlobStorageService azureBlobStorageService,
+                                UploadSessionPersistenceAdapter uploadSessionPersistenceAdapter,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.upload.chunked.part-size:4MB}") DataSize partSize,
+                                @Value("${app.upload.chunked.max-size:50MB}") DataSize maxSize,
+                                @Value("${app.upload.chunked.ttl-minutes:1440}") long ttlMinutes) {
+        this.azureBlobStorageService = azureBlobStorageService;
+        this.uploadSessionPersistenceAdapter = uploadSessionPersistenceAdapter;
+        this.meterRegistry = meterRegistry;
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        this.maxSize = maxSize.toBytes();
+        this.ttlMinutes = ttlMinutes;
+    }
+
+    /**
+     * 업로드 세션 시작.
+     *
+     * @param userId 사용자 ID
+     * @param originalFilename 원본 파일 이름
+     * @param totalSize 전체 크기 (모르면 null)
+     * @return 업로드 세션 (등록 실패 시 null)
+     * @throws MaxUploadSizeExceededException 전체 크기가 최대 크기를 넘은 경우
+     */
+    public UploadSessionDto initiate(String userId, String originalFilename, Long totalSize) {
+        if (totalSize != null && totalSize > maxSize) {
+            throw new MaxUploadSizeExceededException(maxSize);
+        }
+
+        UploadSessionDto session = UploadSessionDto.builder()
+                .uploadId(UUID.randomUUID().toString())
+                .userId(userId)
+                .originalFilename(originalFilename)
+                .partSize(partSize)
+                .totalSize(totalSize)
+                .status(UploadSessionStatus.UPLOADING.name())
+                .build();
+        if (uploadSessionPersistenceAdapter.insertUploadSession(session, ttlMinutes) == 0) {
+            return null;
+        }
+
+        meterRegistry.counter("upload.chunked.sessions", "event", "initiated").increment();
+        // 만료 시간은 DB 시간 기준이므로 다시 조회해서 반환
+        return getSession(session.getUploadId(), userId);
+    }
+
+    /**
+     * 업로드 세션과 전송 완료된 파트 목록 조회 (재개 지점 확인).
+     *
+     * @param uploadId 업로드 세션 ID
+     * @param userId 사용자 ID
+     * @return 업로드 세션 (없거나 만료되었거나 다른 사용자의 세션이면 null)
+     */
+    public UploadSessionDto getSession(String uploadId, String userId) {
+        UploadSessionDto session = findOwnedSession(uploadId, userId);
+        if (session != null) {
+            session.setParts(uploadSessionPersistenceAdapter.selectUploadParts(uploadId));
+        }
+        return session;
+    }
+
+    /**
+     * 파트 업로드. 같은 파트 번호를 다시 보내면 이전 파트를 대체한다.
+     *
+     * @param uploadId 업로드 세션 ID
+     * @param userId 사용자 ID
+     * @param partNumber 파트 번호 (1부터)
+     * @param in 파트 데이터 스트림 (파트 크기 이하)
+     * @return 전송 완료된 파트 (세션이 없으면 null)
+     * @throws IOException 요청 본문 읽기 실패 시
+     * @throws MaxUploadSizeExceededException 파트 크기를 넘은 경우
+     * @throws IllegalArgumentException 파트 번호가 범위를 벗어났거나 빈 파트인 경우
+     * @throws IllegalStateException 완료 처리 중이거나 완료된 세션인 경우
+     */
+    public UploadPartDto uploadPart(String uploadId, String userId, int partNumber, InputStream in) throws IOException {
+        UploadSessionDto session = findOwnedSession(uploadId, userId);
+        if (session == null) {
+            return null;
+        }
+        requireUploading(session);
+        if (partNumber < 1 || partNumber > maxPartCount(session)) {
+            throw new IllegalArgumentException("Part number out of range: " + partNumber);
+        }
+
+        // 파트 크기 + 1 바이트까지만 읽어 초과 여부 판단 (SDK 재시도를 위해 파트는 메모리에 둔다)
+        byte[] data = in.readNBytes(session.getPartSize() + 1);
+        if (data.length > session.getPartSize()) {
+            throw new MaxUploadSizeExceededException(session.getPartSize());
+        }
+        if (data.length == 0) {
+            throw new IllegalArgumentException("Empty part: " + partNumber);
+        }
+
+        azureBlobStorageService.stageUploadPart(userId, session.getOriginalFilename(), uploadId, partNumber, data);
+
+        UploadPartDto part = UploadPartDto.builder()
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .size(data.length)
+                .build();
+        // 블록은 올라갔지만 기록에 실패하면 클라이언트가 같은 파트를 다시 보내도록 실패로 응답
+        if (uploadSessionPersistenceAdapter.upsertUploadPart(part) == 0) {
+            throw new IllegalStateException("Failed to record part " + partNumber);
+        }
+        uploadSessionPersistenceAdapter.updateUploadSessionExpiry(uploadId, ttlMinutes);
+        meterRegistry.counter("upload.chunked.parts").increment();
+        return part;
+    }
+
+    /**
+     * 업로드 완료. 파트 1..N 이 빠짐없이 있어야 하며 순서대로 블록 목록을 커밋한다.
+     *
+     * @param uploadId 업로드 세션 ID
+     * @param userId 사용자 ID
+     * @return 업로드 결과 (세션이 없으면 null)
+     * @throws IllegalArgumentException 빠진 파트가 있거나 파트 크기가 맞지 않는 경우
+     * @throws IllegalStateException 이미 완료 처리 중이거나 완료된 세션인 경우
+     * @throws MaxUploadSizeExceededException 전체 크기가 최대 크기를 넘은 경우
+     */
+    public BlobUploadResultDto complete(String uploadId, String userId) {
+        UploadSessionDto session = findOwnedSession(uploadId, userId);
+        if (session == null) {
+            return null;
+        }
+        requireUploading(session);
+        List<UploadPartDto> parts = uploadSessionPersistenceAdapter.selectUploadParts(uploadId);
+        validateParts(session, parts);
+
+        // 동시에 들어온 완료 요청은 하나만 처리
+        if (uploadSessionPersistenceAdapter.updateUploadSessionStatus(uploadId,
+                UploadSessionStatus.UPLOADING.name(), UploadSessionStatus.COMPLETING.name()) == 0) {
+            throw new IllegalStateException("Upload is already completing: " + uploadId);
+        }
+
+        try {
+            BlobUploadResultDto result = azureBlobStorageService.commitUploadParts(
+                    userId, session.getOriginalFilename(), uploadId, parts.size());
+            uploadSessionPersistenceAdapter.updateUploadSessionStatus(uploadId,
+                    UploadSessionStatus.COMPLETING.name(), UploadSessionStatus.COMPLETED.name());
+            meterRegistry.counter("upload.chunked.sessions", "event", "completed").increment();
+            log.info("분할 업로드 완료: uploadId={}, parts={}, size={}", uploadId, parts.size(), result.getSize());
+            return result;
+        } catch (RuntimeException e) {
+            // 커밋하지 못했으면 파트는 그대로 남아 있으므로 다시 완료 요청할 수 있게 되돌린다
+            uploadSessionPersistenceAdapter.updateUploadSessionStatus(uploadId,
+                    UploadSessionStatus.COMPLETING.name(), UploadSessionStatus.UPLOADING.name());
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 업로드 세션 정리.
+     */
+    @Scheduled(fixedDelayString = "${app.upload.chunked.cleanup-interval-ms:600000}")
+    public void deleteExpiredSessions() {
+        int deleted = uploadSessionPersistenceAdapter.deleteExpiredUploadSessions();
+        if (deleted > 0) {
+            log.debug("만료된 업로드 세션 정리: {} rows", deleted);
+        }
+    }
+
+    private UploadSessionDto findOwnedSession(String uploadId, String userId) {
+        UploadSessionDto session = uploadSessionPersistenceAdapter.selectUploadSession(uploadId);
+        // 다른 사용자의 세션은 존재 여부도 노출하지 않는다
+        if (session == null || !session.getUserId().equals(userId)) {
+            return null;
+        }
+        return session;
+    }
+
+    private static void requireUploading(UploadSessionDto session) {
+        if (!UploadSessionStatus.UPLOADING.name().equals(session.getStatus())) {
+            throw new IllegalStateException("Upload is " + session.getStatus() + ": " + session.getUploadId());
+        }
+    }
+
+    private int maxPartCount(UploadSessionDto session) {
+        return Math.toIntExact((maxSize + session.getPartSize() - 1) / session.getPartSize());
+    }
+
+    /**
+     * 파트 1..N 연속 여부, 마지막을 제외한 파트 크기, 전체 크기 확인.
+     */
+    private void validateParts(UploadSessionDto session, List<UploadPartDto> parts) {
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("No parts uploaded");
+        }
+
+        long total = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            UploadPartDto part = parts.get(i);
+            if (part.getPartNumber() != i + 1) {
+                throw new IllegalArgumentException("Missing part: " + (i + 1));
+            }
+            if (i < parts.size() - 1 && part.getSize() != session.getPartSize().intValue()) {
+                throw new IllegalArgumentException("Part " + part.getPartNumber() + " must be " + session.getPartSize() + " bytes");
+            }
+            total += part.getSize();
+        }
+
+        if (total > maxSize) {
+            throw new MaxUploadSizeExceededException(maxSize);
+        }
+        if (session.getTotalSize() != null && total != session.getTotalSize()) {
+            throw new IllegalArgumentException("Uploaded " + total + " bytes, expected " + session.getTotalSize());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.model.dto.websocket.PendingUserMessageDto;
+import com.rounders.pposeek.common.persistence.websocket.PendingMessagePersistenceAdapter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 미접속 사용자 대기 메시지 저장소.
+ * <p>
+ * 사용자별로 크기가 제한된 메모리 대기열에 보관하고, 보관 시간(TTL)이 지나면 폐기한다.
+ * DB 보관(db-spill)을 켜면 메모리 한도를 넘어 밀려난 메시지를 PendingUserMessage 테이블에 보관하고,
+ * 꺼져 있으면 가장 오래된 메시지부터 폐기한다.
+ * 브로커 relay 모드(다중 인스턴스)에서는 사용자가 다른 인스턴스로 재접속할 수 있으므로 메모리 대기열을 쓰지 않고
+ * 모든 대기 메시지를 PendingUserMessage 테이블에 보관한다. (사용자별 건수 한도 없이 보관 시간으로만 정리)
+ * </p>
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Component
+public class PendingUserMessageStore {
+
+    private final PendingMessagePersistenceAdapter pendingMessagePersistenceAdapter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 사용자별 메모리 대기열 (오래된 메시지가 앞)
+     */
+    private final Map<String, Deque<PendingMessage>> pendingByUser = new ConcurrentHashMap<>();
+
+    /**
+     * DB 보관분을 복원할 수 있는 메시지 타입 패키지
+     */
+    private static final String RESTORABLE_PAYLOAD_PACKAGE = "com.rounders.pposeek.common.model.dto.";
+
+    private final int maxMessagesPerUser;
+    private final int maxUsers;
+    private final long ttlMinutes;
+    private final boolean dbSpill;
+
+    /**
+     * 모든 대기 메시지를 DB에 보관 (relay 모드, 인스턴스 간 공유)
+     */
+    private final boolean sharedStore;
+
+    public PendingUserMessageStore(PendingMessagePersistenceAdapter pendingMessagePersistenceAdapter,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.websocket.pending.max-messages-per-user:50}") int maxMessagesPerUser,
+                                   @Value("${app.websocket.pending.max-users:10000}") int maxUsers,
+                                   @Value("${app.websocket.pending.ttl-minutes:1440}") long ttlMinutes,
+                                   @Value("${app.websocket.pending.db-spill:false}") boolean dbSpill,
+                                   @Value("${app.websocket.broker.mode:simple}") String brokerMode) {
+        this.pendingMessagePersistenceAdapter = pendingMessagePersistenceAdapter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxMessagesPerUser = maxMessagesPerUser;
+        this.maxUsers = maxUsers;
+        this.ttlMinutes = ttlMinutes;
+        this.dbSpill = dbSpill;
+        this.sharedStore = "relay".equalsIgnoreCase(brokerMode);
+
+        Gauge.builder("websocket.pending.users", pendingByUser, Map::size)
+                .description("대기 메시지가 있는 사용자 수 (메모리)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 메시지 보관.
+     * 
+     * @param userId 사용자 ID
+     * @param destination 사용자 구독 경로 (/user 접두어 제외)
+     * @param payload 메시지
+     */
+    public void enqueue(String userId, String destination, Object payload) {
+        PendingMessage message = new PendingMessage(destination, payload, System.currentTimeMillis());
+        if (sharedStore) {
+            meterRegistry.counter("websocket.pending.enqueued").increment();
+            if (!spill(userId, message)) {
+                meterRegistry.counter("websocket.pending.dropped", "reason", "store").increment();
+                log.warn("대기 메시지 폐기 (DB 보관 실패): userId={}, destination={}", userId, destination);
+            }
+            return;
+        }
+
+        List<PendingMessage> overflow = new ArrayList<>();
+
+        pendingByUser.compute(userId, (key, queue) -> {
+            if (queue == null) {
+                if (pendingByUser.size() >= maxUsers) {
+                    // 사용자 수 한도 초과 - 메모리에 새 대기열을 만들지 않는다
+                    overflow.add(message);
+                    return null;
+                }
+                queue = new ArrayDeque<>();
+            }
+            queue.addLast(message);
+            while (queue.size() > maxMessagesPerUser) {
+                overflow.add(queue.pollFirst());
+            }
+            return queue;
+        });
+
+        meterRegistry.counter("websocket.pending.enqueued").increment();
+        for (PendingMessage dropped : overflow) {
+            if (!dbSpill || !spill(userId, dropped)) {
+                meterRegistry.counter("websocket.pending.dropped", "reason", "capacity").increment();
+                log.warn("대기 메시지 폐기 (한도 초과): userId={}, destination={}", userId, dropped.destination());
+            }
+        }
+    }
+
+    /**
+     * 구독 경로의 대기 메시지를 꺼낸다 (DB 보관분 -> 메모리 순, 저장 순서 유지).
+     * 
+     * @param userId 사용자 ID
+     * @param destination 사용자 구독 경로 (/user 접두어 제외)
+     * @return 전달할 메시지 목록
+     */
+    public List<Object> drain(String userId, String destination) {
+        List<Object> messages = new ArrayList<>();
+
+        // DB에는 메모리에서 밀려난 (더 오래된) 메시지만 있으므로 먼저 전달한다 (relay 모드는 DB 에만 있음)
+        if (dbSpill || sharedStore) {
+            List<PendingUserMessageDto> rows =
+                    pendingMessagePersistenceAdapter.selectPendingMessages(userId, destination, ttlMinutes);
+            List<Long> pendingIds = new ArrayList<>(rows.size());
+            for (PendingUserMessageDto row : rows) {
+                pendingIds.add(row.getPendingId());
+                try {
+                    if (!row.getPayloadType().startsWith(RESTORABLE_PAYLOAD_PACKAGE)) {
+                        throw new IllegalArgumentException("허용되지 않은 메시지 타입: " + row.getPayloadType());
+                    }
+                    messages.add(objectMapper.readValue(row.getPayload(), Class.forName(row.getPayloadType())));
+                } catch (Exception e) {
+                    log.warn("대기 메시지 복원 실패 (폐기): pendingId={} - {}", row.getPendingId(), e.getMessage());
+                }
+            }
+            pendingMessagePersistenceAdapter.deletePendingMessages(pendingIds);
+        }
+
+        long expiredBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(ttlMinutes);
+        pendingByUser.computeIfPresent(userId, (key, queue) -> {
+            Iterator<PendingMessage> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                PendingMessage message = iterator.next();
+                if (message.destination().equals(destination)) {
+                    iterator.remove();
+                    if (message.createdAt() > expiredBefore) {
+                        messages.add(message.payload());
+                    }
+                }
+            }
+            return queue.isEmpty() ? null : queue;
+        });
+        return messages;
+    }
+
+    /**
+     * 보관 시간이 지난 대기 메시지 정리.
+     */
+    @Scheduled(fixedDelayString = "${app.websocket.pending.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long expiredBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(ttlMinutes);
+        for (String userId : pendingByUser.keySet()) {
+            pendingByUser.computeIfPresent(userId, (key, queue) -> {
+                int before = queue.size();
+                queue.removeIf(message -> message.createdAt() <= expiredBefore);
+                int expired = before - queue.size();
+                if (expired > 0) {
+                    meterRegistry.counter("websocket.pending.dropped", "reason", "expired").increment(expired);
+                }
+                return queue.isEmpty() ? null : queue;
+            });
+        }
+
+        if (dbSpill || sharedStore) {
+            pendingMessagePersistenceAdapter.deleteExpiredPendingMessages(ttlMinutes);
+        }
+    }
+
+    /**
+     * 메모리 한도를 넘은 메시지 (relay 모드는 모든 메시지)를 DB에 보관.
+     */
+    private boolean spill(String userId, PendingMessage message) {
+        try {
+            PendingUserMessageDto pendingUserMessageDto = PendingUserMessageDto.builder()
+                    .userId(userId)
+                    .destination(message.destination())
+                    .payloadType(message.payload().getClass().getName())
+                    .payload(objectMapper.writeValueAsString(message.payload()))
+                    .build();
+            return pendingMessagePersistenceAdapter.insertPendingMessage(pendingUserMessageDto) > 0;
+        } catch (Exception e) {
+            log.warn("대기 메시지 DB 보관 실패: userId={} - {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 메모리 대기 메시지
+     */
+    private record PendingMessage(String destination, Object payload, long createdAt) {
+    }
+}
@@ -0,0 +1,188 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rounders.pposeek.common.model.constant.WebSocketPayloadFormat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 메시지 묶음 전송기.
+ * BATCH/COMPACT 형식을 요청한 구독에 대해 묶음 전송 구간 동안 모인 메시지를 세션·경로별로 모아
+ * JSON 배열 프레임 하나로 전송한다. (분석 진행 상태처럼 짧은 시간에 몰리는 알림의 프레임 수/전송량 절감)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Component
+public class UserMessageCoalescer implements DisposableBean {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * COMPACT 형식용 ObjectMapper (null/빈 값 필드 생략)
+     */
+    private final ObjectMapper compactObjectMapper;
+
+    private final ThreadPoolTaskScheduler flushScheduler;
+    private final long windowMs;
+    private final int maxBatchSize;
+
+    /**
+     * (세션, 경로) -> 전송 대기 묶음
+     */
+    private final Map<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+
+    public UserMessageCoalescer(SimpMessagingTemplate messagingTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.websocket.coalescing.window-ms:200}") long windowMs,
+                                @Value("${app.websocket.coalescing.max-batch-size:50}") int maxBatchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.compactObjectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+
+        this.flushScheduler = new ThreadPoolTaskScheduler();
+        this.flushScheduler.setPoolSize(1);
+        this.flushScheduler.setThreadNamePrefix("ws-coalesce-");
+        this.flushScheduler.initialize();
+    }
+
+    /**
+     * 묶음에 메시지 추가 (구간이 0이거나 최대 건수에 도달하면 즉시 전송).
+     *
+     * @param userId 사용자 ID
+     * @param sessionId 대상 STOMP 세션 ID
+     * @param destination 사용자 구독 경로 (/user 접두어 제외)
+     * @param format 메시지 형식 (BATCH, COMPACT)
+     * @param payload 메시지
+     */
+    public void add(String userId, String sessionId, String destination, WebSocketPayloadFormat format, Object payload) {
+        BatchKey key = new BatchKey(sessionId, destination);
+        // [0] 새 묶음 여부, [1] 최대 건수 도달 여부
+        boolean[] state = new boolean[2];
+
+        Batch batch = batches.compute(key, (batchKey, current) -> {
+            if (current == null) {
+                current = new Batch(userId, format, new ArrayList<>());
+                state[0] = true;
+            }
+            current.payloads().add(payload);
+            state[1] = current.payloads().size() >= maxBatchSize;
+            return current;
+        });
+        meterRegistry.counter("websocket.coalesce.messages", "format", format.name().toLowerCase()).increment();
+
+        if (windowMs <= 0 || state[1]) {
+            flush(key, batch);
+        } else if (state[0]) {
+            flushScheduler.schedule(() -> flush(key, batch), flushScheduler.getClock().instant().plus(Duration.ofMillis(windowMs)));
+        }
+    }
+
+    /**
+     * 묶음 전송 (이미 다른 스레드가 전송한 묶음이면 무시).
+     */
+    private void flush(BatchKey key, Batch batch) {
+        if (!batches.remove(key, batch)) {
+            return;
+        }
+
+        // 맵에서 제거된 뒤에는 더 이상 추가되지 않음
+        List<Object> payloads = batch.payloads();
+        String format = batch.format().name().toLowerCase();
+        try {
+            ObjectMapper mapper = batch.format() == WebSocketPayloadFormat.COMPACT ? compactObjectMapper : objectMapper;
+            byte[] body = mapper.writeValueAsBytes(payloads);
+            // 이미 직렬화한 본문이므로 메시지 변환 없이 그대로 전송
+            messagingTemplate.send(UserMessageDispatcher.USER_DESTINATION_PREFIX + "/" + batch.userId() + key.destination(),
+                    MessageBuilder.createMessage(body, sessionHeaders(key.sessionId(), batch.format())));
+
+            DistributionSummary.builder("websocket.coalesce.batch.size")
+                    .description("프레임 하나로 묶인 메시지 수 (묶음 비율)")
+                    .tag("format", format)
+                    .register(meterRegistry)
+                    .record(payloads.size());
+        } catch (JsonProcessingException e) {
+            meterRegistry.counter("websocket.coalesce.failed", "format", format).increment(payloads.size());
+            log.error("WebSocket 묶음 메시지 직렬화 실패: sessionId={}, destination={}", key.sessionId(), key.destination(), e);
+        } catch (Exception e) {
+            meterRegistry.counter("websocket.coalesce.failed", "format", format).increment(payloads.size());
+            log.warn("WebSocket 묶음 메시지 전송 실패: sessionId={}, destination={}, {}", key.sessionId(), key.destination(), e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 세션으로만 보내기 위한 헤더 (형식 헤더는 클라이언트에 그대로 전달).
+     */
+    static MessageHeaders sessionHeaders(String sessionId, WebSocketPayloadFormat format) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setNativeHeader(WebSocketPayloadFormat.HEADER, format.name().toLowerCase());
+        if (format != WebSocketPayloadFormat.JSON) {
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        }
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    @Override
+    public void destroy() {
+        flushScheduler.shutdown();
+    }
+
+    /**
+     * 묶음 키
+     *
+     * @param sessionId STOMP 세션 ID
+     * @param destination 사용자 구독 경로
+     */
+    private record BatchKey(String sessionId, String destination) {
+    }
+
+    /**
+     * 전송 대기 묶음
+     *
+     * @param userId 사용자 ID
+     * @param format 메시지 형식
+     * @param payloads 모인 메시지 (추가는 compute 안에서만)
+     */
+    private record Batch(String userId, WebSocketPayloadFormat format, List<Object> payloads) {
+    }
+}
@@ -0,0 +1,138 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+
+import com.rounders.pposeek.common.model.constant.WebSocketPayloadFormat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 사용자별 WebSocket 메시지 전송 서비스.
+ * 모든 사용자 대상 푸시는 이 서비스를 거치며, 해당 경로를 구독 중인 세션이 없으면
+ * {@link PendingUserMessageStore}에 보관했다가 재접속 후 구독 시점에 순서대로 전달한다.
+ * BATCH/COMPACT 형식으로 구독한 세션에는 {@link UserMessageCoalescer}를 거쳐 묶음으로 전달한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserMessageDispatcher {
+
+    /**
+     * 사용자 구독 경로 접두어 (WebSocketConfig.setUserDestinationPrefix)
+     */
+    public static final String USER_DESTINATION_PREFIX = "/user";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final PendingUserMessageStore pendingUserMessageStore;
+    private final WebSocketSessionRegistry webSocketSessionRegistry;
+    private final UserMessageCoalescer userMessageCoalescer;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 사용자에게 메시지 전송 (미접속이면 대기열에 보관).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param destination 사용자 구독 경로 (/queue/feedback 등, /user 접두어 제외)
+     * @param payload 메시지
+     * @return 구독 중인 세션으로 바로 전송했으면 true, 대기열에 보관했으면 false
+     */
+    public boolean sendToUser(String userId, String destination, Object payload) {
+        List<String> sessionIds = subscribedSessionIds(userId, destination);
+        if (!sessionIds.isEmpty()) {
+            deliver(userId, destination, payload, sessionIds);
+            return true;
+        }
+
+        pendingUserMessageStore.enqueue(userId, destination, payload);
+        log.info("미접속 사용자 메시지 보관: userId={}, destination={}", userId, destination);
+        return false;
+    }
+
+    /**
+     * 재접속한 사용자의 대기 메시지 전달 (구독 처리 직후 호출).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param destination 사용자 구독 경로 (/user 접두어 제외)
+     */
+    public void deliverPending(String userId, String destination) {
+        List<Object> messages = pendingUserMessageStore.drain(userId, destination);
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<String> sessionIds = subscribedSessionIds(userId, destination);
+        for (Object message : messages) {
+            deliver(userId, destination, message, sessionIds);
+        }
+        meterRegistry.counter("websocket.pending.delivered").increment(messages.size());
+        log.info("대기 메시지 전달: userId={}, destination={}, {}건", userId, destination, messages.size());
+    }
+
+    /**
+     * 구독 중인 세션으로 전달.
+     * 형식을 따로 요청한 구독이 없으면 기존처럼 사용자 단위로 한 번에 보내고,
+     * 있으면 세션별로 JSON 은 바로, BATCH/COMPACT 는 묶음 전송기로 보낸다.
+     */
+    private void deliver(String userId, String destination, Object payload, List<String> sessionIds) {
+        if (!webSocketSessionRegistry.hasFormattedSubscriptions()) {
+            messagingTemplate.convertAndSendToUser(userId, destination, payload);
+            return;
+        }
+
+        String userDestination = USER_DESTINATION_PREFIX + destination;
+        for (String sessionId : sessionIds) {
+            WebSocketPayloadFormat format = webSocketSessionRegistry.getPayloadFormat(sessionId, userDestination);
+            if (format == WebSocketPayloadFormat.JSON) {
+                messagingTemplate.convertAndSendToUser(userId, destination, payload,
+                        UserMessageCoalescer.sessionHeaders(sessionId, format));
+            } else {
+                userMessageCoalescer.add(userId, sessionId, destination, format, payload);
+            }
+        }
+    }
+
+    /**
+     * 해당 경로를 구독 중인 사용자 세션 ID 목록.
+     * (relay 모드에서는 다른 인스턴스의 세션도 포함)
+     */
+    private List<String> subscribedSessionIds(String userId, String destination) {
+        SimpUser user = simpUserRegistry.getUser(userId);
+        if (user == null) {
+            return List.of();
+        }
+        String userDestination = USER_DESTINATION_PREFIX + destination;
+        return user.getSessions().stream()
+                .filter(session -> session.getSubscriptions().stream()
+                        .anyMatch(subscription -> userDestination.equals(subscription.getDestination())))
+                .map(SimpSession::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,146 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.config.JwtConfig;
+import com.rounders.pposeek.common.config.security.service.CustomUserDetailsService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP CONNECT 인증 서비스.
+ * <p>
+ * 인증 정보는 JWT 클레임(user_id, role)만으로 만들고 사용자 조회(DB)는 하지 않는다.
+ * 검증을 마친 JWT의 인증 정보를 캐시해서 재접속 시 서명 검증도 생략한다.
+ * 캐시 항목은 설정된 TTL과 토큰 만료 시각 중 먼저 도래하는 시점에 만료된다.
+ * </p>
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Service
+public class WebSocketAuthenticationService {
+
+    /**
+     * role 클레임이 없는 토큰(이전 발급분)에 적용할 역할 (User.role 기본값)
+     */
+    private static final String DEFAULT_ROLE = "user";
+
+    private final JwtConfig jwtConfig;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 검증된 토큰 캐시 (JWT -> 인증 정보)
+     */
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+
+    public WebSocketAuthenticationService(JwtConfig jwtConfig,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${app.websocket.auth-cache.max-size:10000}") long maxSize,
+                                          @Value("${app.websocket.auth-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.jwtConfig = jwtConfig;
+        this.meterRegistry = meterRegistry;
+
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        long untilTokenExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                verified.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(ttlNanos, untilTokenExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(token, verified, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokenCache, "websocketAuthToken");
+    }
+
+    /**
+     * CONNECT 요청의 JWT 인증.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jwt Bearer 접두어를 제외한 JWT
+     * @return 인증 정보 (유효하지 않으면 null)
+     */
+    public UsernamePasswordAuthenticationToken authenticate(String jwt) {
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(jwt);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
+
+        try {
+            // 서명/만료 검증과 사용자 ID/역할 추출을 한 번의 파싱으로 처리
+            Claims claims = jwtConfig.extractClaims(jwt);
+            Integer userId = claims.get("user_id", Integer.class);
+            if (userId == null) {
+                reject("no_user_id");
+                return null;
+            }
+
+            String role = claims.get("role", String.class);
+            UserDetails userDetails = User.withUsername(String.valueOf(userId))
+                    .password("")
+                    .authorities(CustomUserDetailsService.getAuthorities(role != null ? role : DEFAULT_ROLE))
+                    .build();
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+
+            verifiedTokenCache.put(jwt, new VerifiedToken(authentication, claims.getExpiration().getTime()));
+            return authentication;
+        } catch (Exception e) {
+            reject(e.getClass().getSimpleName());
+            log.warn("WebSocket JWT 인증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("websocket.connect.auth.rejected", "reason", reason).increment();
+    }
+
+    /**
+     * 검증된 토큰의 인증 정보와 토큰 만료 시각
+     */
+    private record VerifiedToken(UsernamePasswordAuthenticationToken authentication, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,91 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 핸드셰이크 메트릭 인터셉터.
+ * 연결 방식(transport)을 세션 속성에 남기고 핸드셰이크 처리 시간을 기록한다.
+ * - websocket : /ws-native 순수 WebSocket
+ * - sockjs-websocket, sockjs-xhr_streaming, sockjs-xhr ... : /ws SockJS 전송 방식
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Component
+public class WebSocketHandshakeMetricsInterceptor implements HandshakeInterceptor {
+
+    /**
+     * 연결 방식 세션 속성 이름
+     */
+    public static final String TRANSPORT_ATTRIBUTE = "pposeek.transport";
+
+    private static final String HANDSHAKE_START_ATTRIBUTE = "pposeek.handshakeStart";
+
+    /**
+     * SockJS 엔드포인트 경로 (/ws/{server}/{session}/{transport})
+     */
+    private static final String SOCKJS_ENDPOINT = "/ws/";
+
+    private final MeterRegistry meterRegistry;
+
+    public WebSocketHandshakeMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(TRANSPORT_ATTRIBUTE, resolveTransport(request.getURI().getPath()));
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(HANDSHAKE_START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(servletRequest.getServletRequest().getAttribute(HANDSHAKE_START_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+
+        Timer.builder("websocket.handshake")
+                .description("WebSocket/SockJS 핸드셰이크 처리 시간")
+                .tag("transport", resolveTransport(request.getURI().getPath()))
+                .tag("outcome", exception == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 요청 경로로 연결 방식 판별.
+     */
+    static String resolveTransport(String path) {
+        if (path == null || !path.contains(SOCKJS_ENDPOINT)) {
+            return "websocket";
+        }
+        return "sockjs-" + path.substring(path.lastIndexOf('/') + 1);
+    }
+}
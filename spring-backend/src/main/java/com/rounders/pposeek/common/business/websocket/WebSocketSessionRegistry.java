@@ -0,0 +1,255 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.rounders.pposeek.common.model.constant.WebSocketPayloadFormat;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션 레지스트리.
+ * 이 인스턴스에 연결된 STOMP 세션의 사용자와 접속 시각, 구독별 메시지 형식을 관리하고 세션 메트릭을 기록한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 세션 ID -> 세션 정보
+     */
+    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 ID -> 접속 세션 수
+     */
+    private final Map<String, Integer> sessionCountByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 ID -> (구독 ID -> 구독 정보). JSON 이외 형식을 요청한 구독만 보관
+     */
+    private final Map<String, Map<String, SubscriptionInfo>> subscriptions = new ConcurrentHashMap<>();
+
+    private final Timer sessionDuration;
+
+    /**
+     * 연결 방식 -> 활성 세션 수 (websocket, sockjs-xhr_streaming 등)
+     */
+    private final Map<String, AtomicInteger> activeByTransport = new ConcurrentHashMap<>();
+
+    public WebSocketSessionRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("websocket.sessions.active", sessions, Map::size)
+                .description("활성 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.users.connected", sessionCountByUser, Map::size)
+                .description("WebSocket 접속 사용자 수")
+                .register(meterRegistry);
+        this.sessionDuration = Timer.builder("websocket.session.duration")
+                .description("WebSocket 세션 유지 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        Principal user = event.getUser();
+        String userId = user != null ? user.getName() : null;
+        String transport = resolveTransport(event.getMessage());
+
+        meterRegistry.counter("websocket.connects",
+                "authenticated", String.valueOf(userId != null), "transport", transport).increment();
+        if (sessionId == null) {
+            return;
+        }
+
+        sessions.put(sessionId, new SessionInfo(sessionId, userId, transport, Instant.now()));
+        activeByTransport.computeIfAbsent(transport, this::registerTransportGauge).incrementAndGet();
+        if (userId != null) {
+            sessionCountByUser.merge(userId, 1, Integer::sum);
+        }
+        log.debug("WebSocket 세션 연결: sessionId={}, userId={}, transport={}", sessionId, userId, transport);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        subscriptions.remove(event.getSessionId());
+        // 4500(SESSION_NOT_RELIABLE)은 송신 시간/버퍼 한도를 넘어 끊긴 느린 클라이언트
+        meterRegistry.counter("websocket.disconnects",
+                "status", String.valueOf(event.getCloseStatus().getCode())).increment();
+
+        SessionInfo session = sessions.remove(event.getSessionId());
+        if (session == null) {
+            return;
+        }
+
+        if (session.userId() != null) {
+            sessionCountByUser.computeIfPresent(session.userId(), (userId, count) -> count > 1 ? count - 1 : null);
+        }
+        AtomicInteger transportCount = activeByTransport.get(session.transport());
+        if (transportCount != null) {
+            transportCount.decrementAndGet();
+        }
+        sessionDuration.record(Duration.between(session.connectedAt(), Instant.now()));
+        log.debug("WebSocket 세션 종료: sessionId={}, userId={}, status={}",
+                session.sessionId(), session.userId(), event.getCloseStatus());
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        WebSocketPayloadFormat format = WebSocketPayloadFormat.from(accessor.getFirstNativeHeader(WebSocketPayloadFormat.HEADER));
+        if (format == WebSocketPayloadFormat.JSON || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        subscriptions.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), new SubscriptionInfo(accessor.getDestination(), format));
+        log.debug("WebSocket 구독 형식: sessionId={}, destination={}, format={}",
+                accessor.getSessionId(), accessor.getDestination(), format);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscriptions.computeIfPresent(accessor.getSessionId(), (sessionId, sessionSubscriptions) -> {
+            sessionSubscriptions.remove(accessor.getSubscriptionId());
+            return sessionSubscriptions.isEmpty() ? null : sessionSubscriptions;
+        });
+    }
+
+    /**
+     * 세션이 해당 경로 구독 시 요청한 메시지 형식 (다른 인스턴스의 세션이면 JSON).
+     * 
+     * @param sessionId STOMP 세션 ID
+     * @param destination 구독 경로 (/user 접두어 포함)
+     * @return 메시지 형식
+     */
+    public WebSocketPayloadFormat getPayloadFormat(String sessionId, String destination) {
+        Map<String, SubscriptionInfo> sessionSubscriptions = subscriptions.get(sessionId);
+        if (sessionSubscriptions == null) {
+            return WebSocketPayloadFormat.JSON;
+        }
+        return sessionSubscriptions.values().stream()
+                .filter(subscription -> destination.equals(subscription.destination()))
+                .map(SubscriptionInfo::format)
+                .findFirst()
+                .orElse(WebSocketPayloadFormat.JSON);
+    }
+
+    /**
+     * JSON 이외 형식을 요청한 구독이 하나라도 있는지 여부.
+     */
+    public boolean hasFormattedSubscriptions() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * 핸드셰이크 때 기록한 연결 방식 조회 (CONNECTED 메시지에 담긴 CONNECT 메시지의 세션 속성).
+     */
+    private String resolveTransport(Message<?> connectedMessage) {
+        Object connectMessage = connectedMessage.getHeaders().get(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER);
+        if (connectMessage instanceof Message<?> message) {
+            Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(message.getHeaders());
+            if (attributes != null && attributes.get(WebSocketHandshakeMetricsInterceptor.TRANSPORT_ATTRIBUTE) instanceof String transport) {
+                return transport;
+            }
+        }
+        return "unknown";
+    }
+
+    private AtomicInteger registerTransportGauge(String transport) {
+        AtomicInteger count = new AtomicInteger();
+        Gauge.builder("websocket.sessions.transport", count, AtomicInteger::get)
+                .description("연결 방식별 활성 WebSocket 세션 수")
+                .tag("transport", transport)
+                .register(meterRegistry);
+        return count;
+    }
+
+    /**
+     * 사용자의 접속 세션 수.
+     */
+    public int getSessionCount(String userId) {
+        return sessionCountByUser.getOrDefault(userId, 0);
+    }
+
+    /**
+     * 사용자의 접속 세션 목록.
+     */
+    public List<SessionInfo> getSessions(String userId) {
+        return sessions.values().stream()
+                .filter(session -> userId.equals(session.userId()))
+                .toList();
+    }
+
+    /**
+     * 세션 정보.
+     */
+    public SessionInfo getSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * 활성 세션 수.
+     */
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 접속 세션 정보
+     *
+     * @param sessionId STOMP 세션 ID
+     * @param userId 인증된 사용자 ID (미인증이면 null)
+     * @param transport 연결 방식 (websocket, sockjs-*)
+     * @param connectedAt 접속 시각
+     */
+    public record SessionInfo(String sessionId, String userId, String transport, Instant connectedAt) {
+    }
+
+    /**
+     * 구독 정보
+     *
+     * @param destination 구독 경로
+     * @param format 메시지 형식
+     */
+    public record SubscriptionInfo(String destination, WebSocketPayloadFormat format) {
+    }
+}
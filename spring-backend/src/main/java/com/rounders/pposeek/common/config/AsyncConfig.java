@@ -0,0 +1,75 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 실행 설정 클래스.
+ * - 이력서 업로드/분석 요청을 요청 스레드(Tomcat) 밖에서 처리하기 위한 전용 Executor
+ * - Blob 블록 병렬 전송용 Executor
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 스레드만 가상 스레드로 바꾸고
+ * 풀 크기/큐 용량(대기열 초과 시 503)은 그대로 유지한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 이력서 분석 제출 전용 Executor.
+     * 큐가 가득 차면 TaskRejectedException을 던져 호출 측에서 503으로 응답하게 한다.
+     * 
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "analysisTaskExecutor")
+    public ThreadPoolTaskExecutor analysisTaskExecutor(
+            @Value("${app.analysis.executor.core-pool-size:8}") int corePoolSize,
+            @Value("${app.analysis.executor.max-pool-size:32}") int maxPoolSize,
+            @Value("${app.analysis.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Blob 블록 전송 전용 Executor.
+     * 업로드별 동시 전송 수는 BlobBlockUploader가 제한하므로 여기서는 전체 전송 스레드 수만 정한다.
+     * 
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "blobUploadExecutor")
+    public ThreadPoolTaskExecutor blobUploadExecutor(
+            @Value("${app.upload.executor.pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("blob-upload-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -7,8 +7,12 @@
 package com.rounders.pposeek.common.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +26,7 @@ import java.util.Date;
 /**
  * 간단한 JWT 토큰 관리 클래스.
  * SecureKeyManager를 통해 안전한 키 관리
+ * 토큰 생성/검증 시간은 auth.jwt 타이머(operation, outcome)로 기록
  * 
  * @author siunkimm@gmail.com
  * @since 2025
@@ -32,6 +37,7 @@ import java.util.Date;
 public class JwtConfig {
 
     private final SecureKeyManager secureKeyManager;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jwt.expiration:86400}") // 24시간 (초 단위)
     private Long expiration;
@@ -47,29 +53,61 @@ public class JwtConfig {
 
     /**
      * 로그인 시 JWT 토큰 생성
-     * 사용자 정보를 암호화해서 토큰에 담음
+     * 사용자 정보를 암호화해서 토큰에 담음 (role 은 WebSocket CONNECT 인증이 DB 조회 없이 권한을 만들 때 사용)
      */
-    public String generateToken(Integer userId, String username, String email) {
-        return Jwts.builder()
-                .claim("user_id", userId)
-                .claim("username", username)
-                .claim("email", email)
-                .subject(username)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey())
-                .compact();
+    public String generateToken(Integer userId, String username, String email, String role) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            String token = Jwts.builder()
+                    .claim("user_id", userId)
+                    .claim("username", username)
+                    .claim("email", email)
+                    .claim("role", role)
+                    .subject(username)
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + expiration * 1000))
+                    .signWith(getSigningKey())
+                    .compact();
+            outcome = "success";
+            return token;
+        } finally {
+            record(sample, "generate", outcome);
+        }
     }
 
     /**
      * 토큰에서 사용자 정보 추출
      */
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            outcome = "success";
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            outcome = "invalid";
+            throw e;
+        } finally {
+            record(sample, "extract", outcome);
+        }
+    }
+
+    private void record(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("auth.jwt")
+                .description("JWT 토큰 생성/검증 시간 (서명 키 조회 포함)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
     }
 
     /**
@@ -1,11 +1,13 @@
 package com.rounders.pposeek.common.config;
 
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
@@ -22,6 +24,9 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -34,10 +39,11 @@ public class KafkaConsumerConfig {
         props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false); // Python에서 타입 헤더를 보내지 않음
         props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, Object.class.getName());
         
+        // 역직렬화 실패 메시지가 파티션을 막지 않도록 예외를 헤더로 넘겨 바로 DLT로 보낸다
         return new DefaultKafkaConsumerFactory<>(
             props, 
             new StringDeserializer(), 
-            new JsonDeserializer<>(Object.class)
+            new ErrorHandlingDeserializer<>(new JsonDeserializer<>(Object.class))
         );
     }
 
@@ -46,6 +52,13 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+
+        // 가상 스레드 모드: 리스너 컨테이너(poll + 리스너 호출) 스레드를 가상 스레드로 실행
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerTaskExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
         return factory;
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.rounders.pposeek.common.config;
+
+import com.rounders.pposeek.common.business.kafka_ai.KafkaConsumerService;
+import com.rounders.pposeek.common.business.kafka_ai.KafkaDeadLetterService;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.messaging.MessagingException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kafka Consumer 재시도 설정 - 논블로킹 재시도 토픽 + DLT
+ * <p>
+ * WebSocket/DB 순간 장애는 같은 스레드에서 짧게 재시도하고(DefaultErrorHandler),
+ * 그래도 실패하면 지수 백오프 재시도 토픽으로 넘겨 파티션의 다른 메시지를 막지 않는다.
+ * 재시도를 모두 소진한 메시지는 {topic}-dlt 로 보내고 관리자 API로 재주입한다.
+ * </p>
+ */
+@Configuration
+public class KafkaRetryConfig extends RetryTopicConfigurationSupport {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${app.kafka.retry.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${app.kafka.retry.initial-interval-ms:1000}")
+    private long initialIntervalMs;
+
+    @Value("${app.kafka.retry.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${app.kafka.retry.max-interval-ms:30000}")
+    private long maxIntervalMs;
+
+    @Value("${app.kafka.retry.blocking-attempts:2}")
+    private long blockingAttempts;
+
+    @Value("${app.kafka.retry.blocking-interval-ms:200}")
+    private long blockingIntervalMs;
+
+    private final KafkaDeadLetterService kafkaDeadLetterService;
+
+    public KafkaRetryConfig(KafkaDeadLetterService kafkaDeadLetterService) {
+        this.kafkaDeadLetterService = kafkaDeadLetterService;
+    }
+
+    @Bean
+    public RetryTopicConfiguration consumerRetryTopicConfiguration() {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .exponentialBackoff(initialIntervalMs, multiplier, maxIntervalMs)
+                .maxAttempts(maxAttempts)
+                .includeTopics(List.of(KafkaConsumerService.FEEDBACK_TOPIC, KafkaConsumerService.NOTIFICATION_TOPIC))
+                .listenerFactory("kafkaListenerContainerFactory")
+                .dltHandlerMethod("kafkaDeadLetterService", "handleDeadLetter")
+                .doNotRetryOnDltFailure()
+                .create(retryKafkaTemplate());
+    }
+
+    /**
+     * 재시도 토픽 지연 재개용 스케줄러 (@Scheduled 작업과 분리)
+     */
+    @Bean
+    public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("kafka-retry-");
+        scheduler.initialize();
+        return new RetryTopicSchedulerWrapper(scheduler);
+    }
+
+    /**
+     * 짧은 순간 장애(WebSocket 브로커, DB 커넥션)는 재시도 토픽으로 보내기 전에 제자리에서 재시도
+     */
+    @Override
+    protected void configureBlockingRetries(BlockingRetriesConfigurer blockingRetries) {
+        blockingRetries
+                .retryOn(MessagingException.class, TransientDataAccessException.class)
+                .backOff(new FixedBackOff(blockingIntervalMs, blockingAttempts));
+    }
+
+    /**
+     * 변환 불가능한 메시지는 재시도하지 않고 바로 DLT로 보낸다
+     */
+    @Override
+    protected void manageNonBlockingFatalExceptions(List<Class<? extends Throwable>> nonBlockingFatalExceptions) {
+        nonBlockingFatalExceptions.add(IllegalArgumentException.class);
+    }
+
+    @Override
+    protected void configureCustomizers(CustomizersConfigurer customizersConfigurer) {
+        customizersConfigurer.customizeErrorHandler(errorHandler ->
+                errorHandler.setRetryListeners(kafkaDeadLetterService::recordFailedDelivery));
+    }
+
+    /**
+     * 재시도/DLT 발행용 템플릿.
+     * 역직렬화에 실패한 메시지는 원본 byte[]를 그대로 보내야 하므로 타입별로 Serializer를 나눈다.
+     */
+    private KafkaTemplate<String, Object> retryKafkaTemplate() {
+        Map<String, Object> props = Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(Object.class, new JsonSerializer<>());
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                props,
+                new StringSerializer(),
+                new DelegatingByTypeSerializer(delegates, true)
+        ));
+    }
+}
@@ -0,0 +1,41 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rounders.pposeek.common.utility.logging.DroppedLogEvents;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 로그 파이프라인 메트릭 설정 클래스.
+ * - logging.events.dropped (reason=queue_full, rate_limited, sampled) : 비동기 appender/로그 필터가 버린 이벤트 수
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    @Bean
+    public MeterBinder droppedLogEventsMetrics() {
+        return registry -> {
+            for (DroppedLogEvents.Reason reason : DroppedLogEvents.Reason.values()) {
+                FunctionCounter.builder("logging.events.dropped", reason, DroppedLogEvents::count)
+                        .description("버려진 로그 이벤트 수")
+                        .tag("reason", reason.name().toLowerCase())
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스.
+ * - 분석 요청 Outbox Relay 등 주기 작업 활성화
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // 스케줄러 스레드 설정은 application.yml(spring.task.scheduling)에서 처리
+}
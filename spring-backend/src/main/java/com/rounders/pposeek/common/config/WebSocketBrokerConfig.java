@@ -0,0 +1,57 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 메시지 브로커 설정 클래스.
+ * - {@code @EnableWebSocketMessageBroker} 대신 사용 (WebSocketConfig 등 Configurer는 그대로 적용)
+ * - 송신 버퍼 초과 시 처리 방식을 선택할 수 있도록 세션 데코레이터를 교체
+ *   terminate : 세션 종료 (Spring 기본값)
+ *   drop      : 오래된 메시지부터 버림 (송신 시간 초과는 여전히 세션 종료)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Slf4j
+@Configuration
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    @Value("${app.websocket.transport.overflow-strategy:terminate}")
+    private String overflowStrategy;
+
+    @Override
+    @Bean
+    public WebSocketHandler subProtocolWebSocketHandler(
+            AbstractSubscribableChannel clientInboundChannel, AbstractSubscribableChannel clientOutboundChannel) {
+        OverflowStrategy strategy = OverflowStrategy.valueOf(overflowStrategy.toUpperCase());
+        log.info("WebSocket 송신 버퍼 초과 처리: {}", strategy);
+
+        return new SubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel) {
+            @Override
+            protected WebSocketSession decorateSession(WebSocketSession session) {
+                return new ConcurrentWebSocketSessionDecorator(
+                        session, getSendTimeLimit(), getSendBufferSizeLimit(), strategy);
+            }
+        };
+    }
+}
@@ -1,97 +1,307 @@
 package com.rounders.pposeek.common.config;
-import com.rounders.pposeek.common.config.JwtConfig;
+import com.rounders.pposeek.common.business.websocket.UserMessageDispatcher;
+import com.rounders.pposeek.common.business.websocket.WebSocketAuthenticationService;
+import com.rounders.pposeek.common.business.websocket.WebSocketHandshakeMetricsInterceptor;
+import com.rounders.pposeek.common.model.constant.WebSocketPayloadFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.util.StringUtils;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor; // ⭐️ Lombok 어노테이션 임포트
 import lombok.extern.slf4j.Slf4j; // ⭐️ Lombok 로그 어노테이션 임포트
 
 
 @Slf4j // ⭐️ 로그를 사용하기 위해 추가
 @Configuration
-@EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
-    private final JwtConfig jwtConfig;
-    private final UserDetailsService userDetailsService;
+    private final WebSocketAuthenticationService webSocketAuthenticationService;
+    // 메시징 템플릿이 이 설정에서 만들어지므로 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<UserMessageDispatcher> userMessageDispatcherProvider;
+    private final MeterRegistry meterRegistry;
+    private final WebSocketHandshakeMetricsInterceptor webSocketHandshakeMetricsInterceptor;
+    /**
+     * 메시지 브로커 모드
+     * - simple : 인메모리 브로커 (단일 인스턴스)
+     * - relay  : 외부 STOMP 브로커(RabbitMQ) 릴레이 (다중 인스턴스)
+     */
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.websocket.broker.relay.virtual-host:/}")
+    private String relayVirtualHost;
+
+    /**
+     * 채널 처리 스레드 모드
+     * - false : 크기가 정해진 플랫폼 스레드 풀 + 제한된 큐
+     * - true  : 가상 스레드 (동시 처리 수만 제한)
+     */
+    @Value("${app.websocket.channels.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.websocket.channels.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${app.websocket.channels.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${app.websocket.channels.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${app.websocket.channels.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${app.websocket.channels.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${app.websocket.channels.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    /**
+     * 브로커 채널 전용 Executor 사용 여부.
+     * 대기 메시지 전달은 구독 등록 직후 브로커 채널이 동기로 처리된다는 전제에 의존하므로 기본값은 사용 안 함.
+     */
+    @Value("${app.websocket.channels.broker.enabled:false}")
+    private boolean brokerExecutorEnabled;
+
+    @Value("${app.websocket.channels.broker.core-pool-size:4}")
+    private int brokerCorePoolSize;
+
+    @Value("${app.websocket.channels.broker.max-pool-size:8}")
+    private int brokerMaxPoolSize;
+
+    @Value("${app.websocket.channels.broker.queue-capacity:10000}")
+    private int brokerQueueCapacity;
+
+    @Value("${app.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${app.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${app.websocket.transport.time-to-first-message-ms:60000}")
+    private int timeToFirstMessageMs;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 클라이언트가 구독할 경로(prefix) 설정
-        config.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 외부 STOMP 브로커로 구독/발행을 중계해서 어느 인스턴스에서 보내도 구독 중인 세션에 전달되도록 합니다.
+            config.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode)
+                .setVirtualHost(relayVirtualHost)
+                // 이 인스턴스에 없는 사용자의 메시지는 다른 인스턴스로 브로드캐스트
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                // 인스턴스 간 접속 사용자 정보 공유
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+            log.info("WebSocket 메시지 브로커: STOMP 릴레이 ({}:{})", relayHost, relayPort);
+        } else {
+            // 클라이언트가 구독할 경로(prefix) 설정
+            config.enableSimpleBroker("/topic", "/queue");
+            log.info("WebSocket 메시지 브로커: 인메모리 Simple Broker");
+        }
         // 메시지를 보낼 때 사용할 경로(prefix) 설정
         config.setApplicationDestinationPrefixes("/app");
 
         // 사용자별 메시지를 위한 설정 - 이게 핵심!
         config.setUserDestinationPrefix("/user");
+
+        // 같은 세션으로 가는 메시지는 발행 순서대로 전달 (대기 메시지 순차 전달)
+        config.setPreservePublishOrder(true);
+
+        if (brokerExecutorEnabled) {
+            config.configureBrokerChannel()
+                .executor(channelExecutor("broker", brokerCorePoolSize, brokerMaxPoolSize, brokerQueueCapacity));
+        }
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트 한 명이 서버 메모리를 잡아먹지 않도록 세션별 송신 시간/버퍼 상한을 둡니다.
+        // 상한을 넘으면 app.websocket.transport.overflow-strategy 에 따라 오래된 메시지를 버리거나 세션을 끊습니다.
+        registration.setSendTimeLimit(sendTimeLimitMs)
+            .setSendBufferSizeLimit(sendBufferSizeLimit)
+            .setMessageSizeLimit(messageSizeLimit)
+            .setTimeToFirstMessage(timeToFirstMessageMs);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutor("outbound", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity));
+        registration.interceptors(new ChannelInterceptor() {
+            // 클라이언트로 나가는 MESSAGE 프레임 수/크기를 형식별로 기록 (묶음 전송 효과 확인)
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+                if (SimpMessageType.MESSAGE.equals(accessor.getMessageType()) && message.getPayload() instanceof byte[] body) {
+                    String format = accessor.getFirstNativeHeader(WebSocketPayloadFormat.HEADER);
+                    DistributionSummary.builder("websocket.frames.sent")
+                        .description("클라이언트로 전송한 MESSAGE 프레임 크기 (바이트)")
+                        .baseUnit("bytes")
+                        .tag("format", format != null ? format : "json")
+                        .register(meterRegistry)
+                        .record(body.length);
+                }
+                return message;
+            }
+        });
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 웹소켓 연결을 위한 엔드포인트 설정
         // CORS 문제를 해결하기 위해 setAllowedOrigins에 정확한 주소를 명시합니다.
+        // 순수 WebSocket 엔드포인트 - SockJS info 요청/세션 경로 없이 바로 업그레이드 (최신 브라우저용)
+        registry.addEndpoint("/ws-native")
+            .setAllowedOrigins("http://localhost", "http://localhost:3000")
+            .addInterceptors(webSocketHandshakeMetricsInterceptor);
+
+        // SockJS 엔드포인트 - WebSocket을 쓸 수 없는 환경(구형 브라우저, 프록시)용 폴백
         registry.addEndpoint("/ws")
             .setAllowedOrigins("http://localhost", "http://localhost:3000") // "*" 대신 정확한 주소 사용
+            .addInterceptors(webSocketHandshakeMetricsInterceptor)
             .withSockJS();
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutor("inbound", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity));
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
                 StompHeaderAccessor accessor =
                         MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
-                // STOMP CONNECT 요청일 때만 JWT 인증을 수행합니다.
+                // STOMP CONNECT 요청일 때만 JWT 인증을 수행합니다. (검증된 토큰은 캐시에서 바로 인증)
                 if (StompCommand.CONNECT.equals(accessor.getCommand())) {
                     String bearerToken = accessor.getFirstNativeHeader("Authorization");
-                    System.out.println("WebSocket received Authorization header : " + bearerToken);
-
-                    // ⭐️ 2. JwtAuthenticationFilter의 로직을 거의 그대로 사용합니다.
                     if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-                        String jwt = bearerToken.substring(7);
-                        try {
-                            if (jwtConfig.isTokenValid(jwt)) {
-                                Integer userIdInt = jwtConfig.extractUserId(jwt);
-                                String userId = userIdInt != null ? String.valueOf(userIdInt) : null;
-
-                                if (userId != null) {
-                                    // UserDetailsService를 통해 UserDetails를 가져옵니다.
-                                    UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
-                                    
-                                    // 인증 토큰을 생성합니다.
-                                    UsernamePasswordAuthenticationToken authentication =
-                                            new UsernamePasswordAuthenticationToken(
-                                                    userDetails,
-                                                    null,
-                                                    userDetails.getAuthorities()
-                                            );
-                                    
-                                    // 웹소켓 세션에 인증된 사용자를 설정합니다.
-                                    accessor.setUser(authentication);
-                                    System.out.println("✅ WebSocket User Authenticated: " + userId);
-                                }
-                            }
-                        } catch (Exception e) {
-                            System.out.println("WebSocket JWT Authentication error:" + e.getMessage());
+                        UsernamePasswordAuthenticationToken authentication =
+                                webSocketAuthenticationService.authenticate(bearerToken.substring(7));
+                        if (authentication != null) {
+                            // 웹소켓 세션에 인증된 사용자를 설정합니다.
+                            accessor.setUser(authentication);
+                            log.debug("WebSocket 사용자 인증: {}", authentication.getName());
                         }
+                    } else {
+                        log.debug("WebSocket CONNECT Authorization 헤더 없음: sessionId={}", accessor.getSessionId());
                     }
                 }
                 return message;
             }
+        }, new ExecutorChannelInterceptor() {
+            // 오프라인 동안 쌓인 메시지는 CONNECT가 아니라 구독이 브로커에 등록된 직후에 전달해야 유실되지 않습니다.
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+                if (ex != null || !(handler instanceof UserDestinationMessageHandler)) {
+                    return;
+                }
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                String destination = accessor.getDestination();
+                String userPrefix = UserMessageDispatcher.USER_DESTINATION_PREFIX + "/";
+                if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && accessor.getUser() != null
+                        && destination != null && destination.startsWith(userPrefix)) {
+                    userMessageDispatcherProvider.getObject().deliverPending(
+                            accessor.getUser().getName(),
+                            destination.substring(UserMessageDispatcher.USER_DESTINATION_PREFIX.length()));
+                }
+            }
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * 채널 처리 Executor 생성.
+     * 반환된 Executor는 Spring 메시징 설정이 빈으로 등록하므로 초기화/종료도 컨테이너가 맡습니다.
+     * - 플랫폼 스레드 : 큐가 가득 차면 호출 스레드에서 직접 처리해 수신 속도를 늦춥니다. (역압)
+     * - 가상 스레드   : 동시 처리 수를 넘으면 호출 스레드가 대기합니다.
+     */
+    private Executor channelExecutor(String channel, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("websocket.channel.active", inFlight, AtomicInteger::get)
+            .description("WebSocket 채널에 들어와 처리가 끝나지 않은 메시지 수 (대기 + 처리 중)")
+            .tag("channel", channel)
+            .register(meterRegistry);
+
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-" + channel + "-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxPoolSize);
+            executor.setTaskDecorator(task -> countingTask(inFlight, task));
+            log.info("WebSocket {} 채널: 가상 스레드 (동시 처리 {})", channel, maxPoolSize);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ws-" + channel + "-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> countingTask(inFlight, task));
+        Gauge.builder("websocket.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+            .description("WebSocket 채널 대기 큐 길이")
+            .tag("channel", channel)
+            .register(meterRegistry);
+        Gauge.builder("websocket.channel.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+            .description("WebSocket 채널 스레드 수")
+            .tag("channel", channel)
+            .register(meterRegistry);
+        log.info("WebSocket {} 채널: 스레드 풀 (core={}, max={}, queue={})", channel, corePoolSize, maxPoolSize, queueCapacity);
+        return executor;
+    }
+
+    private static Runnable countingTask(AtomicInteger inFlight, Runnable task) {
+        inFlight.incrementAndGet();
+        return () -> {
+            try {
+                task.run();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+}
@@ -93,6 +93,7 @@ public class WebSecurityConfig {
                     "/api/public/**",       // 공개 API
                     "/api/test/**",         // 테스트 API (Key Vault 등)
                     "/ws/**",               // WebSocket 엔드포인트 
+                    "/ws-native",           // WebSocket 엔드포인트 (SockJS 미사용)
                     "/h2-console/**",       // H2 콘솔 (개발환경)
                     "/actuator/health",     // Health Check
                     "/swagger-ui/**",       // Swagger UI
@@ -94,11 +94,12 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * 사용자 역할에 따른 권한 설정.
+     * WebSocket CONNECT 인증도 JWT role 클레임으로 같은 권한을 만든다.
      * 
      * @param role 사용자 역할
      * @return 권한 목록
      */
-    private Collection<? extends GrantedAuthority> getAuthorities(String role) {
+    public static Collection<? extends GrantedAuthority> getAuthorities(String role) {
         List<GrantedAuthority> authorities = new ArrayList<>();
         
         if (role != null) {
@@ -0,0 +1,41 @@
+/*****************************************************************
+ * 
+ * PPoseek Web Application - Analysis Job Status Constants
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.constant;
+
+/**
+ * 이력서 분석 작업 상태 상수.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public enum AnalysisJobStatus {
+
+    /**
+     * 분석 요청 접수 (파일 업로드 및 Outbox 기록 대기/완료)
+     */
+    REQUESTED,
+
+    /**
+     * 분석 진행 중 (분석 요청 Kafka 발행 완료)
+     */
+    PROCESSING,
+
+    /**
+     * 분석 완료 (결과 저장 완료)
+     */
+    DONE,
+
+    /**
+     * 분석 실패 (파일 업로드 또는 분석 처리 실패)
+     */
+    FAILED
+}
@@ -0,0 +1,41 @@
+/*****************************************************************
+ * 
+ * PPoseek Web Application - Outbox Status Constants
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.constant;
+
+/**
+ * Outbox 메시지 발행 상태 상수.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public enum OutboxStatus {
+
+    /**
+     * 발행 대기
+     */
+    PENDING,
+
+    /**
+     * 발행 중 (Relay 가 점유, locked_until 이 지나면 다시 발행 대상)
+     */
+    SENDING,
+
+    /**
+     * 발행 완료 (브로커 확인 수신)
+     */
+    SENT,
+
+    /**
+     * 발행 포기 (최대 시도 횟수 초과, 수동 확인 필요)
+     */
+    DEAD
+}
@@ -0,0 +1,36 @@
+/*****************************************************************
+ * 
+ * PPoseek Web Application - Upload Session Status Constants
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.constant;
+
+/**
+ * 분할 업로드 세션 상태 상수.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public enum UploadSessionStatus {
+
+    /**
+     * 파트 업로드 중 (재개 가능)
+     */
+    UPLOADING,
+
+    /**
+     * 블록 목록 커밋 중 (다른 완료 요청/파트 업로드 거부)
+     */
+    COMPLETING,
+
+    /**
+     * 업로드 완료 (만료 시 정리)
+     */
+    COMPLETED
+}
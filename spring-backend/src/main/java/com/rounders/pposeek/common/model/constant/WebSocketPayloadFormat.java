@@ -0,0 +1,60 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - WebSocket Payload Format Constants
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.model.constant;
+
+/**
+ * 사용자 구독별 WebSocket 메시지 형식 상수.
+ * 클라이언트가 SUBSCRIBE 프레임의 {@value #HEADER} 헤더로 지정하며, 지정하지 않으면 JSON.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public enum WebSocketPayloadFormat {
+
+    /**
+     * 메시지 한 건당 프레임 하나, DTO 전체 JSON (기존 방식)
+     */
+    JSON,
+
+    /**
+     * 묶음 전송 구간 동안 모인 메시지를 JSON 배열 하나로 전송
+     */
+    BATCH,
+
+    /**
+     * BATCH + null/빈 값 필드 생략
+     */
+    COMPACT;
+
+    /**
+     * 형식 협상 STOMP 헤더 (SUBSCRIBE 요청, MESSAGE 응답 공통)
+     */
+    public static final String HEADER = "x-format";
+
+    /**
+     * 헤더 값으로 형식 조회 (알 수 없는 값이면 JSON).
+     *
+     * @param value 헤더 값
+     * @return 메시지 형식
+     */
+    public static WebSocketPayloadFormat from(String value) {
+        if (value == null) {
+            return JSON;
+        }
+        for (WebSocketPayloadFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,34 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.analysis;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 분석 이력 페이지 DTO (키셋 페이징)
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisHistoryPageDto {
+
+    private List<AnalysisJobDto> items;
+
+    /**
+     * 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+     */
+    private Long nextCursor;
+}
@@ -0,0 +1,90 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.analysis;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이력서 분석 작업 DTO 클래스.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisJobDto {
+
+    /**
+     * 분석 작업 일련번호 (Primary Key)
+     */
+    private Long analysisId;
+
+    /**
+     * 분석 작업 ID (UUID, 외부 노출용)
+     */
+    private String jobId;
+
+    /**
+     * 요청 사용자 ID
+     */
+    private String userId;
+
+    /**
+     * 업로드된 이력서 파일 URL
+     */
+    private String fileUrl;
+
+    /**
+     * 이력서 파일 SHA-256
+     */
+    private String contentHash;
+
+    /**
+     * 작업 상태 (AnalysisJobStatus)
+     */
+    private String status;
+
+    /**
+     * 분석 결과 - 강점
+     */
+    private String strengths;
+
+    /**
+     * 분석 결과 - 약점
+     */
+    private String weaknesses;
+
+    /**
+     * 분석 결과 - 개선점
+     */
+    private String suggestions;
+
+    /**
+     * 분석 완료일시
+     */
+    private LocalDateTime completedAt;
+
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정일시
+     */
+    private LocalDateTime updatedAt;
+}
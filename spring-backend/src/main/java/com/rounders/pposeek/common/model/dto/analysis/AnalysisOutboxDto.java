@@ -0,0 +1,70 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.analysis;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 요청 Outbox 메시지 DTO 클래스.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisOutboxDto {
+
+    /**
+     * Outbox ID (발행 순서)
+     */
+    private Long outboxId;
+
+    /**
+     * 분석 작업 ID
+     */
+    private String aggregateId;
+
+    /**
+     * 발행 대상 토픽
+     */
+    private String topic;
+
+    /**
+     * Kafka 메시지 키
+     */
+    private String messageKey;
+
+    /**
+     * 메시지 본문 (JSON)
+     */
+    private String payload;
+
+    /**
+     * 발행 상태 (OutboxStatus)
+     */
+    private String status;
+
+    /**
+     * 발행 시도 횟수
+     */
+    private Integer attempts;
+
+    /**
+     * 기록일시
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.analysis;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이력서 분석 비동기 제출 응답 DTO
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisSubmissionDto {
+
+    private String jobId;
+    private String status;
+    private String statusUrl;
+}
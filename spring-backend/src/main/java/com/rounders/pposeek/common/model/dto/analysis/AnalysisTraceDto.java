@@ -0,0 +1,37 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.analysis;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이력서 분석 구간 추적 DTO (제출부터 피드백 전달까지 같은 상관관계 ID로 묶음)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisTraceDto {
+
+    private String correlationId;
+
+    /**
+     * 제출 요청 수신 시각 (epoch ms)
+     */
+    private Long submittedAt;
+
+    /**
+     * Blob Storage 업로드 완료 시각 (epoch ms)
+     */
+    private Long uploadCompletedAt;
+}
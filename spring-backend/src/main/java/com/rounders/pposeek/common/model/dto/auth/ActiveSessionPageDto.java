@@ -0,0 +1,37 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 활성 세션 페이지 DTO (키셋 페이징)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveSessionPageDto {
+
+    /**
+     * 활성 세션 목록 (세션 토큰 제외)
+     */
+    private List<UserSessionDto> items;
+
+    /**
+     * 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
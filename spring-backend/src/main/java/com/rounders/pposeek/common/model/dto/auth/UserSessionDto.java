@@ -1,5 +1,7 @@
 package com.rounders.pposeek.common.model.dto.auth;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 
 /**
@@ -10,6 +12,7 @@ public class UserSessionDto {
     
     private Long sessionId;
     private Integer userId;
+    @JsonIgnore // 세션 토큰(JWT)은 응답에 노출하지 않음
     private String sessionToken;
     private String sessionName;
     private LocalDateTime createdAt;
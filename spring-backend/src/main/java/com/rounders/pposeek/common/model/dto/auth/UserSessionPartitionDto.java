@@ -0,0 +1,35 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * UserSessions 일 단위 파티션 DTO (RANGE TO_DAYS(created_at))
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSessionPartitionDto {
+
+    /**
+     * 파티션 이름 (p + 보관하는 날짜 yyyyMMdd)
+     */
+    private String partitionName;
+
+    /**
+     * 파티션 상한 날짜 (yyyy-MM-dd, 이 날짜 미만의 created_at 보관)
+     */
+    private String lessThan;
+}
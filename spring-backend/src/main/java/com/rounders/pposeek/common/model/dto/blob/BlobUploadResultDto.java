@@ -0,0 +1,43 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.blob;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Blob Storage 업로드 결과 DTO 클래스.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlobUploadResultDto {
+
+    /**
+     * 업로드된 파일 URL
+     */
+    private String fileUrl;
+
+    /**
+     * 파일 내용 SHA-256 (16진수 소문자)
+     */
+    private String contentHash;
+
+    /**
+     * 업로드된 바이트 수
+     */
+    private long size;
+}
@@ -0,0 +1,51 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.blob;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Blob Storage 직접 업로드 발급 정보 DTO 클래스.
+ * 클라이언트는 uploadUrl 로 PUT (x-ms-blob-type: BlockBlob) 한 뒤 blobName 으로 업로드 확인을 요청한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DirectUploadDto {
+
+    /**
+     * 서버가 정한 Blob 이름 (업로드 확인 요청에 사용)
+     */
+    private String blobName;
+
+    /**
+     * 쓰기 전용 SAS가 포함된 업로드 URL
+     */
+    private String uploadUrl;
+
+    /**
+     * SAS 만료 시간
+     */
+    private OffsetDateTime expiresAt;
+
+    /**
+     * 허용 최대 크기 (바이트)
+     */
+    private Long maxSize;
+}
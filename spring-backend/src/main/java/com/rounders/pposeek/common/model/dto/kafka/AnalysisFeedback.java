@@ -5,8 +5,10 @@ import lombok.Data;
 @Data
 public class AnalysisFeedback {
     private String userId;
+    private String jobId; // 분석 작업 ID (요청 메시지에서 그대로 돌려받음)
     private String strengths;
     private String weaknesses;
     private String suggestions;
     private String status;
+    private String correlationId; // 구간 추적 상관관계 ID (요청 메시지 헤더에서 그대로 돌려받음)
 }
@@ -10,4 +10,12 @@ import lombok.NoArgsConstructor;
 public class ResumeAnalysisRequest {
     private String userId;
     private String fileUrl;
+    private String jobId; // 분석 작업 ID (AnalysisJob.job_id)
+    private String correlationId; // 구간 추적 상관관계 ID (발행 시 Kafka 헤더로도 전달)
+    private Long submittedAt; // 제출 요청 수신 시각 (epoch ms)
+    private Long uploadCompletedAt; // 업로드 완료 시각 (epoch ms)
+
+    public ResumeAnalysisRequest(String userId, String fileUrl, String jobId) {
+        this(userId, fileUrl, jobId, null, null, null);
+    }
 }
@@ -0,0 +1,43 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 업로드 파트 DTO 클래스.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadPartDto {
+
+    /**
+     * 업로드 세션 ID
+     */
+    private String uploadId;
+
+    /**
+     * 파트 번호 (1부터)
+     */
+    private Integer partNumber;
+
+    /**
+     * 파트 크기 (바이트)
+     */
+    private Integer size;
+}
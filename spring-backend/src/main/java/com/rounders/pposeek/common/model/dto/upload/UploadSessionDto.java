@@ -0,0 +1,71 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분할 업로드 세션 DTO 클래스.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionDto {
+
+    /**
+     * 업로드 세션 ID (UUID)
+     */
+    private String uploadId;
+
+    /**
+     * 업로드 사용자 ID
+     */
+    private String userId;
+
+    /**
+     * 원본 파일 이름
+     */
+    private String originalFilename;
+
+    /**
+     * 파트 크기 (바이트, 마지막 파트만 작을 수 있음)
+     */
+    private Integer partSize;
+
+    /**
+     * 클라이언트가 알린 전체 크기 (바이트)
+     */
+    private Long totalSize;
+
+    /**
+     * 세션 상태 (UPLOADING, COMPLETING, COMPLETED)
+     */
+    private String status;
+
+    /**
+     * 만료 시간 (파트 업로드마다 연장)
+     */
+    private LocalDateTime expiresAt;
+
+    /**
+     * 전송 완료된 파트 목록 (재개 시 빠진 파트만 다시 전송)
+     */
+    private List<UploadPartDto> parts;
+}
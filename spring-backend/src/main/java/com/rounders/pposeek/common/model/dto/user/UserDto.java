@@ -63,6 +63,11 @@ public class UserDto {
      */
     private LocalDateTime lastLogin;
     
+    /**
+     * 사용자 정보 버전 (수정마다 증가, /me ETag)
+     */
+    private Integer version;
+    
     // ========== Legacy fields for backward compatibility ==========
     /**
      * 사용자명 (email과 동일하게 처리)
@@ -0,0 +1,60 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.model.dto.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오프라인 사용자 대기 메시지 DTO 클래스.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingUserMessageDto {
+
+    /**
+     * 대기 메시지 ID (전달 순서)
+     */
+    private Long pendingId;
+
+    /**
+     * 수신 사용자 ID
+     */
+    private String userId;
+
+    /**
+     * 사용자 구독 경로 (/queue/feedback 등, /user 접두어 제외)
+     */
+    private String destination;
+
+    /**
+     * 메시지 타입 (클래스명)
+     */
+    private String payloadType;
+
+    /**
+     * 메시지 본문 (JSON)
+     */
+    private String payload;
+
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,347 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.analysis;
+
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisJobDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisOutboxDto;
+import com.rounders.pposeek.common.persistence.mapper.reader.analysis.AnalysisReaderMapper;
+import com.rounders.pposeek.common.persistence.mapper.writer.analysis.AnalysisWriterMapper;
+
+import java.util.List;
+
+/**
+ * 이력서 분석 업무를 처리하는 데이터베이스 Adapter.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisPersistenceAdapter {
+
+    /**
+     * 이력서 분석 Writer Mapper
+     */
+    private final AnalysisWriterMapper analysisWriterMapper;
+
+    /**
+     * 이력서 분석 Reader Mapper
+     */
+    private final AnalysisReaderMapper analysisReaderMapper;
+
+    // ========== 분석 작업 관리 ==========
+
+    /**
+     * 분석 작업 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param analysisJobDto 분석 작업 정보
+     * @return 등록 처리한 갯수
+     */
+    public int insertAnalysisJob(AnalysisJobDto analysisJobDto) {
+        try {
+            return analysisWriterMapper.insertAnalysisJob(analysisJobDto);
+        } catch (Exception e) {
+            log.error("분석 작업 등록 실패: {}", analysisJobDto.getJobId(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 분석 작업에 업로드된 파일 URL 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @param fileUrl 업로드된 파일 URL
+     * @param contentHash 파일 SHA-256
+     * @return 수정 처리한 갯수
+     */
+    public int updateAnalysisJobFileUrl(String jobId, String fileUrl, String contentHash) {
+        try {
+            return analysisWriterMapper.updateAnalysisJobFileUrl(jobId, fileUrl, contentHash);
+        } catch (Exception e) {
+            log.error("분석 작업 파일 URL 등록 실패: {}", jobId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 분석 작업 상태 변경.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @param status 변경할 상태
+     * @return 수정 처리한 갯수
+     */
+    public int updateAnalysisJobStatus(String jobId, String status) {
+        try {
+            int result = analysisWriterMapper.updateAnalysisJobStatus(jobId, status);
+            log.info("분석 작업 상태 변경: {} -> {}", jobId, status);
+            return result;
+        } catch (Exception e) {
+            log.error("분석 작업 상태 변경 실패: {} -> {}", jobId, status, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 분석 요청 발행이 끝난 작업을 진행 중으로 변경.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobIds 분석 작업 ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int markAnalysisJobsProcessing(List<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return analysisWriterMapper.markAnalysisJobsProcessing(jobIds);
+        } catch (Exception e) {
+            log.error("분석 작업 진행 중 처리 실패: {}", jobIds, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 분석 결과 저장 및 완료 처리.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param analysisJobDto 분석 결과
+     * @return 수정 처리한 갯수
+     */
+    public int completeAnalysisJob(AnalysisJobDto analysisJobDto) {
+        try {
+            int result = analysisWriterMapper.completeAnalysisJob(analysisJobDto);
+            log.info("분석 결과 저장 완료: {} ({})", analysisJobDto.getJobId(), analysisJobDto.getStatus());
+            return result;
+        } catch (Exception e) {
+            log.error("분석 결과 저장 실패: {}", analysisJobDto.getJobId(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 분석 작업 ID로 분석 작업 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @return 분석 작업 정보
+     */
+    public AnalysisJobDto selectAnalysisJobByJobId(String jobId) {
+        try {
+            return analysisReaderMapper.selectAnalysisJobByJobId(jobId);
+        } catch (Exception e) {
+            log.error("분석 작업 조회 실패: {}", jobId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 사용자의 분석 이력 조회 (키셋 페이징).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 마지막 analysisId
+     * @param limit 최대 조회 건수
+     * @return 분석 작업 목록
+     */
+    public List<AnalysisJobDto> selectAnalysisJobsByUserId(String userId, Long cursor, int limit) {
+        try {
+            return analysisReaderMapper.selectAnalysisJobsByUserId(userId, cursor, limit);
+        } catch (Exception e) {
+            log.error("분석 이력 조회 실패: {}", userId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 같은 파일로 완료된 사용자의 최근 분석 작업 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param contentHash 이력서 파일 SHA-256
+     * @return 완료된 분석 작업 정보 (없으면 null)
+     */
+    public AnalysisJobDto selectLatestDoneAnalysisJobByContentHash(String userId, String contentHash) {
+        try {
+            return analysisReaderMapper.selectLatestDoneAnalysisJobByContentHash(userId, contentHash);
+        } catch (Exception e) {
+            log.error("완료된 분석 작업 조회 실패: {}", userId, e);
+            return null;
+        }
+    }
+
+    // ========== Outbox 관리 ==========
+
+    /**
+     * Outbox 메시지 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param analysisOutboxDto Outbox 메시지 정보
+     * @return 등록 처리한 갯수
+     */
+    public int insertOutboxMessage(AnalysisOutboxDto analysisOutboxDto) {
+        try {
+            return analysisWriterMapper.insertOutboxMessage(analysisOutboxDto);
+        } catch (Exception e) {
+            log.error("Outbox 메시지 등록 실패: {}", analysisOutboxDto.getAggregateId(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 발행 대기 중인 Outbox 메시지 잠금 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param limit 최대 조회 건수
+     * @return 발행 대기 메시지 목록
+     */
+    public List<AnalysisOutboxDto> selectPendingOutboxForUpdate(int limit) {
+        try {
+            return analysisWriterMapper.selectPendingOutboxForUpdate(limit);
+        } catch (Exception e) {
+            log.error("발행 대기 Outbox 메시지 조회 실패", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Outbox 메시지 발행 점유.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @param leaseSeconds 점유 유지 시간 (초)
+     * @return 수정 처리한 갯수
+     */
+    public int markOutboxSending(List<Long> outboxIds, long leaseSeconds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return analysisWriterMapper.markOutboxSending(outboxIds, leaseSeconds);
+        } catch (Exception e) {
+            log.error("Outbox 메시지 발행 점유 실패: {}", outboxIds, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Outbox 메시지 발행 완료 처리.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int markOutboxSent(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return analysisWriterMapper.markOutboxSent(outboxIds);
+        } catch (Exception e) {
+            log.error("Outbox 메시지 발행 완료 처리 실패: {}", outboxIds, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Outbox 메시지 발행 시도 횟수 증가 (재발행 대기).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int increaseOutboxAttempts(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return analysisWriterMapper.increaseOutboxAttempts(outboxIds);
+        } catch (Exception e) {
+            log.error("Outbox 메시지 발행 시도 횟수 증가 실패: {}", outboxIds, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Outbox 메시지 발행 점유 해제 (시도 횟수 유지).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int releaseOutbox(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return analysisWriterMapper.releaseOutbox(outboxIds);
+        } catch (Exception e) {
+            log.error("Outbox 메시지 발행 점유 해제 실패: {}", outboxIds, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Outbox 메시지 발행 포기 처리.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int markOutboxDead(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return analysisWriterMapper.markOutboxDead(outboxIds);
+        } catch (Exception e) {
+            log.error("Outbox 메시지 발행 포기 처리 실패: {}", outboxIds, e);
+            return 0;
+        }
+    }
+}
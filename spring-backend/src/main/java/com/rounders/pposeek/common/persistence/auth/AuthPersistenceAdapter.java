@@ -8,18 +8,25 @@ package com.rounders.pposeek.common.persistence.auth;
 
 import org.springframework.stereotype.Repository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.rounders.pposeek.common.model.dto.user.UserDto;
 import com.rounders.pposeek.common.model.dto.auth.UserSessionDto;
+import com.rounders.pposeek.common.model.dto.auth.UserSessionPartitionDto;
 import com.rounders.pposeek.common.persistence.mapper.reader.auth.AuthReaderMapper;
 import com.rounders.pposeek.common.persistence.mapper.writer.auth.AuthWriterMapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 인증 업무를 처리하는 데이터베이스 Adapter.
+ * 메서드별 처리 시간은 auth.persistence 타이머(operation, outcome)로 기록.
  * 
  * @author siunkimm@gmail.com
  * @since 2025
@@ -42,6 +49,8 @@ public class AuthPersistenceAdapter {
      */
     private final AuthReaderMapper authReaderMapper;
 
+    private final MeterRegistry meterRegistry;
+
     // ========== 사용자 관리 ==========
 
     /**
@@ -54,12 +63,7 @@ public class AuthPersistenceAdapter {
      * @return 사용자 정보
      */
     public UserDto selectUserForLogin(String loginId) {
-        try {
-            return authReaderMapper.selectUserForLogin(loginId);
-        } catch (Exception e) {
-            log.error("로그인용 사용자 조회 실패: {}", loginId, e);
-            return null;
-        }
+        return timed("selectUserForLogin", loginId, () -> authReaderMapper.selectUserForLogin(loginId), null);
     }
 
     /**
@@ -72,12 +76,7 @@ public class AuthPersistenceAdapter {
      * @return 사용자 정보
      */
     public UserDto selectUserByEmail(String email) {
-        try {
-            return authReaderMapper.selectUserByEmail(email);
-        } catch (Exception e) {
-            log.error("이메일로 사용자 조회 실패: {}", email, e);
-            return null;
-        }
+        return timed("selectUserByEmail", email, () -> authReaderMapper.selectUserByEmail(email), null);
     }
 
     /**
@@ -90,12 +89,9 @@ public class AuthPersistenceAdapter {
      * @return 중복 여부 (true: 중복, false: 중복 아님)
      */
     public boolean checkUsernameDuplicate(String username) {
-        try {
-            return authReaderMapper.checkUsernameDuplicate(username) > 0;
-        } catch (Exception e) {
-            log.error("사용자명 중복 확인 실패: {}", username, e);
-            return true; // 에러 시 중복으로 처리
-        }
+        // 에러 시 중복으로 처리
+        return timed("checkUsernameDuplicate", username,
+                () -> authReaderMapper.checkUsernameDuplicate(username) > 0, true);
     }
 
     /**
@@ -108,12 +104,8 @@ public class AuthPersistenceAdapter {
      * @return 중복 여부 (true: 중복, false: 중복 아님)
      */
     public boolean checkEmailDuplicate(String email) {
-        try {
-            return authReaderMapper.checkEmailDuplicate(email) > 0;
-        } catch (Exception e) {
-            log.error("이메일 중복 확인 실패: {}", email, e);
-            return true; // 에러 시 중복으로 처리
-        }
+        // 에러 시 중복으로 처리
+        return timed("checkEmailDuplicate", email, () -> authReaderMapper.checkEmailDuplicate(email) > 0, true);
     }
 
     /**
@@ -126,12 +118,20 @@ public class AuthPersistenceAdapter {
      * @return 사용자 정보
      */
     public UserDto selectUserById(Integer userId) {
-        try {
-            return authReaderMapper.selectUserById(userId);
-        } catch (Exception e) {
-            log.error("사용자 ID로 조회 실패: {}", userId, e);
-            return null;
-        }
+        return timed("selectUserById", userId, () -> authReaderMapper.selectUserById(userId), null);
+    }
+
+    /**
+     * 사용자 정보 버전 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 정보 버전 (사용자가 없거나 조회 실패 시 null)
+     */
+    public Integer selectUserVersion(Integer userId) {
+        return timed("selectUserVersion", userId, () -> authReaderMapper.selectUserVersion(userId), null);
     }
 
     /**
@@ -144,14 +144,11 @@ public class AuthPersistenceAdapter {
      * @return 등록 처리한 갯수
      */
     public int insertUser(UserDto userDto) {
-        try {
+        return timed("insertUser", userDto.getEmail(), () -> {
             int result = authWriterMapper.insertUser(userDto);
             log.info("사용자 등록 완료: {} (ID: {})", userDto.getEmail(), userDto.getUserId());
             return result;
-        } catch (Exception e) {
-            log.error("사용자 등록 실패: {}", userDto.getEmail(), e);
-            return 0;
-        }
+        }, 0);
     }
 
     /**
@@ -164,14 +161,11 @@ public class AuthPersistenceAdapter {
      * @return 수정 처리한 갯수
      */
     public int updateUser(UserDto userDto) {
-        try {
+        return timed("updateUser", userDto.getEmail(), () -> {
             int result = authWriterMapper.updateUser(userDto);
             log.info("사용자 정보 수정 완료: {}", userDto.getEmail());
             return result;
-        } catch (Exception e) {
-            log.error("사용자 정보 수정 실패: {}", userDto.getEmail(), e);
-            return 0;
-        }
+        }, 0);
     }
 
     /**
@@ -184,14 +178,11 @@ public class AuthPersistenceAdapter {
      * @return 수정 처리한 갯수
      */
     public int updateLastLogin(Integer userId) {
-        try {
+        return timed("updateLastLogin", userId, () -> {
             int result = authWriterMapper.updateLastLogin(userId);
             log.info("마지막 로그인 시간 업데이트 완료: {}", userId);
             return result;
-        } catch (Exception e) {
-            log.error("마지막 로그인 시간 업데이트 실패: {}", userId, e);
-            return 0;
-        }
+        }, 0);
     }
 
     // ========== 세션 관리 ==========
@@ -206,14 +197,11 @@ public class AuthPersistenceAdapter {
      * @return 생성 처리한 갯수
      */
     public int createSession(UserSessionDto sessionDto) {
-        try {
+        return timed("createSession", sessionDto.getSessionToken(), () -> {
             int result = authWriterMapper.createSession(sessionDto);
             log.info("세션 생성 완료: {} (ID: {})", sessionDto.getSessionToken(), sessionDto.getSessionId());
             return result;
-        } catch (Exception e) {
-            log.error("세션 생성 실패: {}", sessionDto.getSessionToken(), e);
-            return 0;
-        }
+        }, 0);
     }
 
     /**
@@ -226,30 +214,26 @@ public class AuthPersistenceAdapter {
      * @return 세션 정보
      */
     public UserSessionDto findSessionByToken(String sessionToken) {
-        try {
-            return authReaderMapper.findSessionByToken(sessionToken);
-        } catch (Exception e) {
-            log.error("세션 토큰으로 조회 실패: {}", sessionToken, e);
-            return null;
-        }
+        return timed("findSessionByToken", sessionToken, () -> authReaderMapper.findSessionByToken(sessionToken), null);
     }
 
     /**
-     * 사용자의 활성 세션 목록 조회.
+     * 사용자의 활성 세션 목록 조회 (키셋 페이징).
      * 
      * @author siunkimm@gmail.com
      * @since 2025
      * 
      * @param userId 사용자 ID
+     * @param cursorActivity 이전 페이지 마지막 세션의 lastActivity
+     * @param cursorSessionId 이전 페이지 마지막 세션의 sessionId
+     * @param limit 최대 조회 건수
      * @return 활성 세션 목록
      */
-    public List<UserSessionDto> findActiveSessionsByUserId(Integer userId) {
-        try {
-            return authReaderMapper.findActiveSessionsByUserId(userId);
-        } catch (Exception e) {
-            log.error("사용자 활성 세션 조회 실패: {}", userId, e);
-            return null;
-        }
+    public List<UserSessionDto> findActiveSessionsByUserId(Integer userId, LocalDateTime cursorActivity,
+                                                           Long cursorSessionId, int limit) {
+        return timed("findActiveSessionsByUserId", userId,
+                () -> authReaderMapper.findActiveSessionsByUserId(userId, cursorActivity, cursorSessionId, limit),
+                List.of());
     }
 
     /**
@@ -262,14 +246,11 @@ public class AuthPersistenceAdapter {
      * @return 수정 처리한 갯수
      */
     public int updateSessionActivity(String sessionToken) {
-        try {
+        return timed("updateSessionActivity", sessionToken, () -> {
             int result = authWriterMapper.updateSessionActivity(sessionToken);
             log.debug("세션 활동 시간 업데이트: {}", sessionToken);
             return result;
-        } catch (Exception e) {
-            log.error("세션 활동 시간 업데이트 실패: {}", sessionToken, e);
-            return 0;
-        }
+        }, 0);
     }
 
     /**
@@ -282,14 +263,11 @@ public class AuthPersistenceAdapter {
      * @return 수정 처리한 갯수
      */
     public int deactivateSession(String sessionToken) {
-        try {
+        return timed("deactivateSession", sessionToken, () -> {
             int result = authWriterMapper.deactivateSession(sessionToken);
             log.info("세션 비활성화 완료: {}", sessionToken);
             return result;
-        } catch (Exception e) {
-            log.error("세션 비활성화 실패: {}", sessionToken, e);
-            return 0;
-        }
+        }, 0);
     }
 
     /**
@@ -302,14 +280,11 @@ public class AuthPersistenceAdapter {
      * @return 수정 처리한 갯수
      */
     public int deactivateAllUserSessions(Integer userId) {
-        try {
+        return timed("deactivateAllUserSessions", userId, () -> {
             int result = authWriterMapper.deactivateAllUserSessions(userId);
             log.info("사용자 모든 세션 비활성화 완료: {} (비활성화된 세션 수: {})", userId, result);
             return result;
-        } catch (Exception e) {
-            log.error("사용자 모든 세션 비활성화 실패: {}", userId, e);
-            return 0;
-        }
+        }, 0);
     }
 
     /**
@@ -322,30 +297,82 @@ public class AuthPersistenceAdapter {
      * @return 유효한 세션 수 (0: 무효, 1: 유효)
      */
     public boolean validateSession(String sessionToken) {
-        try {
-            return authReaderMapper.validateSession(sessionToken) > 0;
-        } catch (Exception e) {
-            log.error("세션 유효성 검증 실패: {}", sessionToken, e);
-            return false; // 에러 시 무효로 처리
-        }
+        // 에러 시 무효로 처리
+        return timed("validateSession", sessionToken, () -> authReaderMapper.validateSession(sessionToken) > 0, false);
     }
 
+    // ========== 세션 파티션 관리 ==========
+
     /**
-     * 만료된 세션 정리.
+     * UserSessions 파티션 이름 조회.
      * 
      * @author siunkimm@gmail.com
      * @since 2025
      * 
-     * @return 삭제 처리한 갯수
+     * @return 파티션 이름 목록 (파티션 순서, 파티션 테이블이 아니면 빈 목록)
      */
-    public int cleanupExpiredSessions() {
+    public List<String> selectUserSessionPartitionNames() {
+        return timed("selectUserSessionPartitionNames", "UserSessions",
+                authReaderMapper::selectUserSessionPartitionNames, List.of());
+    }
+
+    /**
+     * UserSessions 일 파티션 추가 (p_future 분할).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param partitions 추가할 파티션 (날짜순)
+     * @return 추가한 파티션 수
+     */
+    public int addUserSessionPartitions(List<UserSessionPartitionDto> partitions) {
+        return timed("addUserSessionPartitions", partitions, () -> {
+            authWriterMapper.addUserSessionPartitions(partitions);
+            return partitions.size();
+        }, 0);
+    }
+
+    /**
+     * UserSessions 파티션 삭제 (파티션의 세션 전체 삭제).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param partitionNames 삭제할 파티션 이름
+     * @return 삭제한 파티션 수
+     */
+    public int dropUserSessionPartitions(List<String> partitionNames) {
+        return timed("dropUserSessionPartitions", partitionNames, () -> {
+            authWriterMapper.dropUserSessionPartitions(partitionNames);
+            return partitionNames.size();
+        }, 0);
+    }
+
+    /**
+     * DB 처리 시간을 auth.persistence 타이머로 기록하고, 실패하면 로그를 남긴 뒤 fallback 반환.
+     *
+     * @param operation 타이머 operation 태그
+     * @param context 실패 로그에 남길 요청 식별값 (로그인 ID, 사용자 ID, 세션 토큰 등)
+     * @param call DB 처리
+     * @param fallback 실패 시 반환 값
+     * @return 처리 결과 (실패 시 fallback)
+     */
+    private <T> T timed(String operation, Object context, Supplier<T> call, T fallback) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
         try {
-            int result = authWriterMapper.cleanupExpiredSessions();
-            log.info("만료된 세션 정리 완료: {} 개 세션 삭제", result);
-            return result;
+            return call.get();
         } catch (Exception e) {
-            log.error("만료된 세션 정리 실패", e);
-            return 0;
+            outcome = "error";
+            log.error("인증 DB 처리 실패: {} ({})", operation, context, e);
+            return fallback;
+        } finally {
+            sample.stop(Timer.builder("auth.persistence")
+                    .description("인증 DB 처리 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
     }
 }
@@ -0,0 +1,68 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.mapper.reader.analysis;
+
+import com.rounders.pposeek.common.annotation.ReaderInterface;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisJobDto;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 이력서 분석 Reader 업무를 처리하는 데이터베이스 Mapper.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@ReaderInterface
+public interface AnalysisReaderMapper {
+
+    // ========== 분석 작업 조회 ==========
+
+    /**
+     * 분석 작업 ID로 분석 작업 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @return 분석 작업 정보
+     */
+    public AnalysisJobDto selectAnalysisJobByJobId(String jobId);
+
+    /**
+     * 사용자의 분석 이력 조회 (키셋 페이징, 최신순).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 마지막 analysisId (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     * @return 분석 작업 목록
+     */
+    public List<AnalysisJobDto> selectAnalysisJobsByUserId(@Param("userId") String userId,
+                                                          @Param("cursor") Long cursor,
+                                                          @Param("limit") int limit);
+
+    /**
+     * 같은 파일로 완료된 사용자의 최근 분석 작업 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param contentHash 이력서 파일 SHA-256
+     * @return 완료된 분석 작업 정보 (없으면 null)
+     */
+    public AnalysisJobDto selectLatestDoneAnalysisJobByContentHash(@Param("userId") String userId,
+                                                                   @Param("contentHash") String contentHash);
+}
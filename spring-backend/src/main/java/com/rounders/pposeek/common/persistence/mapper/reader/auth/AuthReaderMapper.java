@@ -6,9 +6,12 @@
  *****************************************************************/
 package com.rounders.pposeek.common.persistence.mapper.reader.auth;
 
+import org.apache.ibatis.annotations.Param;
+
 import com.rounders.pposeek.common.annotation.ReaderInterface;
 import com.rounders.pposeek.common.model.dto.user.UserDto;
 import com.rounders.pposeek.common.model.dto.auth.UserSessionDto;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -80,6 +83,17 @@ public interface AuthReaderMapper {
      */
     public UserDto selectUserById(Integer userId);
 
+    /**
+     * 사용자 정보 버전 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @return 사용자 정보 버전 (사용자가 없으면 null)
+     */
+    public Integer selectUserVersion(Integer userId);
+
     // ========== 세션 조회 ==========
 
     /**
@@ -94,15 +108,21 @@ public interface AuthReaderMapper {
     public UserSessionDto findSessionByToken(String sessionToken);
 
     /**
-     * 사용자의 활성 세션 목록 조회.
+     * 사용자의 활성 세션 목록 조회 (키셋 페이징, 최근 활동순, 세션 토큰 제외).
      * 
      * @author siunkimm@gmail.com
      * @since 2025
      * 
      * @param userId 사용자 ID
+     * @param cursorActivity 이전 페이지 마지막 세션의 lastActivity (첫 페이지는 null)
+     * @param cursorSessionId 이전 페이지 마지막 세션의 sessionId
+     * @param limit 최대 조회 건수
      * @return 활성 세션 목록
      */
-    public List<UserSessionDto> findActiveSessionsByUserId(Integer userId);
+    public List<UserSessionDto> findActiveSessionsByUserId(@Param("userId") Integer userId,
+                                                           @Param("cursorActivity") LocalDateTime cursorActivity,
+                                                           @Param("cursorSessionId") Long cursorSessionId,
+                                                           @Param("limit") int limit);
 
     /**
      * 세션 유효성 검증.
@@ -114,4 +134,16 @@ public interface AuthReaderMapper {
      * @return 유효한 세션 수 (0: 무효, 1: 유효)
      */
     public int validateSession(String sessionToken);
+
+    // ========== 세션 파티션 조회 ==========
+
+    /**
+     * UserSessions 파티션 이름 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @return 파티션 이름 목록 (파티션 순서, 파티션 테이블이 아니면 빈 목록)
+     */
+    public List<String> selectUserSessionPartitionNames();
 }
@@ -0,0 +1,50 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.mapper.reader.upload;
+
+import com.rounders.pposeek.common.annotation.ReaderInterface;
+import com.rounders.pposeek.common.model.dto.upload.UploadPartDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadSessionDto;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 분할 업로드 세션 Reader 업무를 처리하는 데이터베이스 Mapper.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@ReaderInterface
+public interface UploadSessionReaderMapper {
+
+    /**
+     * 만료되지 않은 업로드 세션 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @return 업로드 세션 정보
+     */
+    public UploadSessionDto selectUploadSession(@Param("uploadId") String uploadId);
+
+    /**
+     * 전송 완료된 파트 목록 조회 (파트 번호 순).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @return 파트 목록
+     */
+    public List<UploadPartDto> selectUploadParts(@Param("uploadId") String uploadId);
+}
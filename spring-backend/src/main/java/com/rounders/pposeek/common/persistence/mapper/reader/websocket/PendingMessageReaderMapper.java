@@ -0,0 +1,42 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.mapper.reader.websocket;
+
+import com.rounders.pposeek.common.annotation.ReaderInterface;
+import com.rounders.pposeek.common.model.dto.websocket.PendingUserMessageDto;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 오프라인 사용자 대기 메시지 Reader 업무를 처리하는 데이터베이스 Mapper.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@ReaderInterface
+public interface PendingMessageReaderMapper {
+
+    /**
+     * 사용자의 대기 메시지 조회 (만료 제외, 저장 순서).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param destination 사용자 구독 경로
+     * @param ttlMinutes 보관 시간 (분)
+     * @return 대기 메시지 목록
+     */
+    public List<PendingUserMessageDto> selectPendingMessages(@Param("userId") String userId,
+                                                             @Param("destination") String destination,
+                                                             @Param("ttlMinutes") long ttlMinutes);
+}
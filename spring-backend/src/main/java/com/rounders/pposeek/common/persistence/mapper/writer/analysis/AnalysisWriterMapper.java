@@ -0,0 +1,173 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.mapper.writer.analysis;
+
+import com.rounders.pposeek.common.annotation.WriterInterface;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisJobDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisOutboxDto;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 이력서 분석 Writer 업무를 처리하는 데이터베이스 Mapper.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@WriterInterface
+public interface AnalysisWriterMapper {
+
+    // ========== 분석 작업 관리 ==========
+
+    /**
+     * 분석 작업 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param analysisJobDto 분석 작업 DTO
+     * @return 등록 처리한 갯수
+     */
+    public int insertAnalysisJob(AnalysisJobDto analysisJobDto);
+
+    /**
+     * 분석 작업에 업로드된 파일 URL 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @param fileUrl 업로드된 파일 URL
+     * @param contentHash 파일 SHA-256
+     * @return 수정 처리한 갯수
+     */
+    public int updateAnalysisJobFileUrl(@Param("jobId") String jobId, @Param("fileUrl") String fileUrl,
+                                        @Param("contentHash") String contentHash);
+
+    /**
+     * 분석 작업 상태 변경.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobId 분석 작업 ID
+     * @param status 변경할 상태
+     * @return 수정 처리한 갯수
+     */
+    public int updateAnalysisJobStatus(@Param("jobId") String jobId, @Param("status") String status);
+
+    /**
+     * 분석 요청 발행이 끝난 작업을 진행 중(PROCESSING)으로 변경.
+     * REQUESTED 상태인 작업만 변경한다.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param jobIds 분석 작업 ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int markAnalysisJobsProcessing(@Param("jobIds") List<String> jobIds);
+
+    /**
+     * 분석 결과 저장 및 완료(DONE/FAILED) 처리.
+     * 이미 완료된 작업은 변경하지 않는다 (중복 수신 무시).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param analysisJobDto 분석 결과 (jobId, status, strengths, weaknesses, suggestions)
+     * @return 수정 처리한 갯수
+     */
+    public int completeAnalysisJob(AnalysisJobDto analysisJobDto);
+
+    // ========== Outbox 관리 ==========
+
+    /**
+     * Outbox 메시지 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param analysisOutboxDto Outbox 메시지 DTO
+     * @return 등록 처리한 갯수
+     */
+    public int insertOutboxMessage(AnalysisOutboxDto analysisOutboxDto);
+
+    /**
+     * 발행 대기 중인 Outbox 메시지를 순서대로 잠금 조회 (SELECT ... FOR UPDATE).
+     * Relay 인스턴스 간 같은 메시지를 동시에 발행하지 않도록 Writer(Primary)에서 조회한다.
+     * 같은 message_key 의 메시지가 발행 중이면 그 키의 메시지는 조회하지 않는다.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param limit 최대 조회 건수
+     * @return 발행 대기 메시지 목록 (outbox_id 오름차순)
+     */
+    public List<AnalysisOutboxDto> selectPendingOutboxForUpdate(@Param("limit") int limit);
+
+    /**
+     * Outbox 메시지 발행 점유 (SENDING, 점유 만료 시간 설정).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @param leaseSeconds 점유 유지 시간 (초)
+     * @return 수정 처리한 갯수
+     */
+    public int markOutboxSending(@Param("outboxIds") List<Long> outboxIds, @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Outbox 메시지 발행 완료 처리.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int markOutboxSent(@Param("outboxIds") List<Long> outboxIds);
+
+    /**
+     * Outbox 메시지 발행 시도 횟수 증가 (발행 실패, 재발행 대기).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int increaseOutboxAttempts(@Param("outboxIds") List<Long> outboxIds);
+
+    /**
+     * Outbox 메시지 발행 점유 해제 (앞선 메시지 실패로 발행 보류, 시도 횟수 유지).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int releaseOutbox(@Param("outboxIds") List<Long> outboxIds);
+
+    /**
+     * Outbox 메시지 발행 포기 처리 (최대 시도 횟수 초과).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param outboxIds Outbox ID 목록
+     * @return 수정 처리한 갯수
+     */
+    public int markOutboxDead(@Param("outboxIds") List<Long> outboxIds);
+}
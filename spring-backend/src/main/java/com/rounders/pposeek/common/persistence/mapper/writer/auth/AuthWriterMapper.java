@@ -6,9 +6,13 @@
  *****************************************************************/
 package com.rounders.pposeek.common.persistence.mapper.writer.auth;
 
+import org.apache.ibatis.annotations.Param;
+
 import com.rounders.pposeek.common.annotation.WriterInterface;
 import com.rounders.pposeek.common.model.dto.user.UserDto;
 import com.rounders.pposeek.common.model.dto.auth.UserSessionDto;
+import com.rounders.pposeek.common.model.dto.auth.UserSessionPartitionDto;
+import java.util.List;
 
 /**
  * 인증 Writer 업무를 처리하는 데이터베이스 Mapper.
@@ -103,13 +107,25 @@ public interface AuthWriterMapper {
      */
     public int deactivateAllUserSessions(Integer userId);
 
+    // ========== 세션 파티션 관리 ==========
+
+    /**
+     * UserSessions 일 파티션 추가 (p_future 를 나눠 생성).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param partitions 추가할 파티션 (날짜순, 마지막 일 파티션 이후)
+     */
+    public void addUserSessionPartitions(@Param("partitions") List<UserSessionPartitionDto> partitions);
+
     /**
-     * 만료된 세션 정리 (24시간 이상 비활성).
+     * UserSessions 파티션 삭제.
      * 
      * @author siunkimm@gmail.com
      * @since 2025
      * 
-     * @return 삭제 처리한 갯수
+     * @param partitionNames 삭제할 파티션 이름
      */
-    public int cleanupExpiredSessions();
+    public void dropUserSessionPartitions(@Param("partitionNames") List<String> partitionNames);
 }
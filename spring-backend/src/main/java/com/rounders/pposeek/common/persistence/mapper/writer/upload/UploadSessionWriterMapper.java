@@ -0,0 +1,86 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.mapper.writer.upload;
+
+import com.rounders.pposeek.common.annotation.WriterInterface;
+import com.rounders.pposeek.common.model.dto.upload.UploadPartDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadSessionDto;
+
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 분할 업로드 세션 Writer 업무를 처리하는 데이터베이스 Mapper.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@WriterInterface
+public interface UploadSessionWriterMapper {
+
+    /**
+     * 업로드 세션 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadSessionDto 업로드 세션 정보
+     * @param ttlMinutes 세션 만료 시간 (분)
+     * @return 등록 처리한 갯수
+     */
+    public int insertUploadSession(@Param("session") UploadSessionDto uploadSessionDto, @Param("ttlMinutes") long ttlMinutes);
+
+    /**
+     * 전송 완료된 파트 등록 (같은 파트를 다시 보내면 크기 갱신).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadPartDto 파트 정보
+     * @return 등록 처리한 갯수
+     */
+    public int upsertUploadPart(UploadPartDto uploadPartDto);
+
+    /**
+     * 업로드 세션 만료 시간 연장.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @param ttlMinutes 세션 만료 시간 (분)
+     * @return 수정 처리한 갯수
+     */
+    public int updateUploadSessionExpiry(@Param("uploadId") String uploadId, @Param("ttlMinutes") long ttlMinutes);
+
+    /**
+     * 업로드 세션 상태 변경 (현재 상태가 일치할 때만).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @param fromStatus 현재 상태
+     * @param toStatus 변경할 상태
+     * @return 수정 처리한 갯수
+     */
+    public int updateUploadSessionStatus(@Param("uploadId") String uploadId,
+                                         @Param("fromStatus") String fromStatus,
+                                         @Param("toStatus") String toStatus);
+
+    /**
+     * 만료된 업로드 세션과 파트 삭제.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @return 삭제 처리한 갯수 (세션 + 파트)
+     */
+    public int deleteExpiredUploadSessions();
+}
@@ -0,0 +1,60 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.mapper.writer.websocket;
+
+import com.rounders.pposeek.common.annotation.WriterInterface;
+import com.rounders.pposeek.common.model.dto.websocket.PendingUserMessageDto;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 오프라인 사용자 대기 메시지 Writer 업무를 처리하는 데이터베이스 Mapper.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@WriterInterface
+public interface PendingMessageWriterMapper {
+
+    /**
+     * 대기 메시지 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param pendingUserMessageDto 대기 메시지 정보
+     * @return 등록 처리한 갯수
+     */
+    public int insertPendingMessage(PendingUserMessageDto pendingUserMessageDto);
+
+    /**
+     * 전달한 대기 메시지 삭제.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param pendingIds 대기 메시지 ID 목록
+     * @return 삭제 처리한 갯수
+     */
+    public int deletePendingMessages(@Param("pendingIds") List<Long> pendingIds);
+
+    /**
+     * 보관 시간이 지난 대기 메시지 삭제.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param ttlMinutes 보관 시간 (분)
+     * @return 삭제 처리한 갯수
+     */
+    public int deleteExpiredPendingMessages(@Param("ttlMinutes") long ttlMinutes);
+}
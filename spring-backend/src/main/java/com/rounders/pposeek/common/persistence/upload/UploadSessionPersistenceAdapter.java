@@ -0,0 +1,173 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.upload;
+
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.model.dto.upload.UploadPartDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadSessionDto;
+import com.rounders.pposeek.common.persistence.mapper.reader.upload.UploadSessionReaderMapper;
+import com.rounders.pposeek.common.persistence.mapper.writer.upload.UploadSessionWriterMapper;
+
+import java.util.List;
+
+/**
+ * 분할 업로드 세션 업무를 처리하는 데이터베이스 Adapter.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class UploadSessionPersistenceAdapter {
+
+    /**
+     * 업로드 세션 Writer Mapper
+     */
+    private final UploadSessionWriterMapper uploadSessionWriterMapper;
+
+    /**
+     * 업로드 세션 Reader Mapper
+     */
+    private final UploadSessionReaderMapper uploadSessionReaderMapper;
+
+    /**
+     * 업로드 세션 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadSessionDto 업로드 세션 정보
+     * @param ttlMinutes 세션 만료 시간 (분)
+     * @return 등록 처리한 갯수
+     */
+    public int insertUploadSession(UploadSessionDto uploadSessionDto, long ttlMinutes) {
+        try {
+            return uploadSessionWriterMapper.insertUploadSession(uploadSessionDto, ttlMinutes);
+        } catch (Exception e) {
+            log.error("업로드 세션 등록 실패: {}", uploadSessionDto.getUserId(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 만료되지 않은 업로드 세션 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @return 업로드 세션 정보
+     */
+    public UploadSessionDto selectUploadSession(String uploadId) {
+        try {
+            return uploadSessionReaderMapper.selectUploadSession(uploadId);
+        } catch (Exception e) {
+            log.error("업로드 세션 조회 실패: {}", uploadId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 전송 완료된 파트 목록 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @return 파트 목록 (파트 번호 순)
+     */
+    public List<UploadPartDto> selectUploadParts(String uploadId) {
+        try {
+            return uploadSessionReaderMapper.selectUploadParts(uploadId);
+        } catch (Exception e) {
+            log.error("업로드 파트 조회 실패: {}", uploadId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 전송 완료된 파트 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadPartDto 파트 정보
+     * @return 등록 처리한 갯수
+     */
+    public int upsertUploadPart(UploadPartDto uploadPartDto) {
+        try {
+            return uploadSessionWriterMapper.upsertUploadPart(uploadPartDto);
+        } catch (Exception e) {
+            log.error("업로드 파트 등록 실패: {} #{}", uploadPartDto.getUploadId(), uploadPartDto.getPartNumber(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 업로드 세션 만료 시간 연장.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @param ttlMinutes 세션 만료 시간 (분)
+     * @return 수정 처리한 갯수
+     */
+    public int updateUploadSessionExpiry(String uploadId, long ttlMinutes) {
+        try {
+            return uploadSessionWriterMapper.updateUploadSessionExpiry(uploadId, ttlMinutes);
+        } catch (Exception e) {
+            log.error("업로드 세션 만료 시간 연장 실패: {}", uploadId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 업로드 세션 상태 변경 (현재 상태가 일치할 때만).
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param uploadId 업로드 세션 ID
+     * @param fromStatus 현재 상태
+     * @param toStatus 변경할 상태
+     * @return 수정 처리한 갯수
+     */
+    public int updateUploadSessionStatus(String uploadId, String fromStatus, String toStatus) {
+        try {
+            return uploadSessionWriterMapper.updateUploadSessionStatus(uploadId, fromStatus, toStatus);
+        } catch (Exception e) {
+            log.error("업로드 세션 상태 변경 실패: {} {} -> {}", uploadId, fromStatus, toStatus, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 만료된 업로드 세션과 파트 삭제.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @return 삭제 처리한 갯수
+     */
+    public int deleteExpiredUploadSessions() {
+        try {
+            return uploadSessionWriterMapper.deleteExpiredUploadSessions();
+        } catch (Exception e) {
+            log.error("만료된 업로드 세션 삭제 실패", e);
+            return 0;
+        }
+    }
+}
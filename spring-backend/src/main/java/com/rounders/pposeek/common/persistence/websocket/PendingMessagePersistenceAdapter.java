@@ -0,0 +1,120 @@
+/*****************************************************************
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.persistence.websocket;
+
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import com.rounders.pposeek.common.model.dto.websocket.PendingUserMessageDto;
+import com.rounders.pposeek.common.persistence.mapper.reader.websocket.PendingMessageReaderMapper;
+import com.rounders.pposeek.common.persistence.mapper.writer.websocket.PendingMessageWriterMapper;
+
+import java.util.List;
+
+/**
+ * 오프라인 사용자 대기 메시지 업무를 처리하는 데이터베이스 Adapter.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ * 
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PendingMessagePersistenceAdapter {
+
+    /**
+     * 대기 메시지 Writer Mapper
+     */
+    private final PendingMessageWriterMapper pendingMessageWriterMapper;
+
+    /**
+     * 대기 메시지 Reader Mapper
+     */
+    private final PendingMessageReaderMapper pendingMessageReaderMapper;
+
+    /**
+     * 대기 메시지 등록.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param pendingUserMessageDto 대기 메시지 정보
+     * @return 등록 처리한 갯수
+     */
+    public int insertPendingMessage(PendingUserMessageDto pendingUserMessageDto) {
+        try {
+            return pendingMessageWriterMapper.insertPendingMessage(pendingUserMessageDto);
+        } catch (Exception e) {
+            log.error("대기 메시지 등록 실패: {}", pendingUserMessageDto.getUserId(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 사용자의 대기 메시지 조회.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param userId 사용자 ID
+     * @param destination 사용자 구독 경로
+     * @param ttlMinutes 보관 시간 (분)
+     * @return 대기 메시지 목록
+     */
+    public List<PendingUserMessageDto> selectPendingMessages(String userId, String destination, long ttlMinutes) {
+        try {
+            return pendingMessageReaderMapper.selectPendingMessages(userId, destination, ttlMinutes);
+        } catch (Exception e) {
+            log.error("대기 메시지 조회 실패: {}", userId, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 전달한 대기 메시지 삭제.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param pendingIds 대기 메시지 ID 목록
+     * @return 삭제 처리한 갯수
+     */
+    public int deletePendingMessages(List<Long> pendingIds) {
+        if (pendingIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return pendingMessageWriterMapper.deletePendingMessages(pendingIds);
+        } catch (Exception e) {
+            log.error("대기 메시지 삭제 실패: {}", pendingIds, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 대기 메시지 삭제.
+     * 
+     * @author siunkimm@gmail.com
+     * @since 2025
+     * 
+     * @param ttlMinutes 보관 시간 (분)
+     * @return 삭제 처리한 갯수
+     */
+    public int deleteExpiredPendingMessages(long ttlMinutes) {
+        try {
+            return pendingMessageWriterMapper.deleteExpiredPendingMessages(ttlMinutes);
+        } catch (Exception e) {
+            log.error("만료된 대기 메시지 삭제 실패", e);
+            return 0;
+        }
+    }
+}
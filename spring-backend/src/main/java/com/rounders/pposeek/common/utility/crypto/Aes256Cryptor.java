@@ -13,6 +13,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Arrays;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
@@ -24,11 +25,16 @@ import org.springframework.util.StringUtils;
 import com.rounders.pposeek.common.utility.crypto.constant.EncryptionResultType;
 import com.rounders.pposeek.common.utility.crypto.key.SecureKeyManager;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * AES-256-GCM (양방향) 암/복호화 (Hex String with UpperCase).
  * ARIA 대신 표준 AES-256을 사용하여 개인정보를 암호화합니다.
+ * 암/복호화 시간은 crypto.aes 타이머(operation, outcome)로 기록합니다.
+ * (유틸리티 클래스이므로 Spring Boot가 연결해 주는 전역 레지스트리 사용)
  * 
  * @author siunkimm@gmail.com
  * @since 2025
@@ -107,6 +113,8 @@ public final class Aes256Cryptor {
             return null;
         }
 
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        String outcome = "error";
         try {
             // AES-256 키 생성
             SecretKey secretKey = generateSecretKey(encKey);
@@ -139,11 +147,14 @@ public final class Aes256Cryptor {
                 result = ArithmeticUtility.bytesToHexStringUpperCase(combined);
             }
             
+            outcome = "success";
             return result;
             
         } catch (Exception e) {
             log.error("암호화 중 오류 발생: {}", e.getMessage(), e);
             return null;
+        } finally {
+            record(sample, "encrypt", outcome);
         }
     }
 
@@ -190,6 +201,8 @@ public final class Aes256Cryptor {
             return null;
         }
 
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        String outcome = "error";
         try {
             // AES-256 키 생성
             SecretKey secretKey = generateSecretKey(encKey);
@@ -204,6 +217,7 @@ public final class Aes256Cryptor {
             
             if (combined == null || combined.length < GCM_IV_LENGTH) {
                 log.error("암호화된 데이터가 유효하지 않습니다.");
+                outcome = "invalid";
                 return null;
             }
             
@@ -219,14 +233,31 @@ public final class Aes256Cryptor {
             // 복호화 실행
             byte[] decryptedData = cipher.doFinal(encryptedData);
             
+            outcome = "success";
             return new String(decryptedData, StandardCharsets.UTF_8);
             
+        } catch (AEADBadTagException e) {
+            // 키가 다르거나 변조된 데이터
+            log.error("복호화 중 오류 발생: {}", e.getMessage(), e);
+            outcome = "invalid";
+            return null;
         } catch (Exception e) {
             log.error("복호화 중 오류 발생: {}", e.getMessage(), e);
             return null;
+        } finally {
+            record(sample, "decrypt", outcome);
         }
     }
 
+    private static void record(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("crypto.aes")
+                .description("AES-256-GCM 암/복호화 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry));
+    }
+
     /**
      * 문자열 키를 AES SecretKey로 변환.
      * 
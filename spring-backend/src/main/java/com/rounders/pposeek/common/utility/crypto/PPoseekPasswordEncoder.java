@@ -16,11 +16,15 @@ import org.springframework.stereotype.Component;
 
 import com.rounders.pposeek.common.utility.crypto.key.SecureKeyManager;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Spring Security에 사용할 Custom Password Encoder.
  * SHA-512 + Salt 방식을 사용합니다.
+ * 암호화/검증 시간은 auth.password 타이머(operation, outcome)로 기록합니다.
  * 
  * @author siunkimm@gmail.com
  * @since 2025
@@ -33,10 +37,12 @@ import lombok.extern.slf4j.Slf4j;
 public class PPoseekPasswordEncoder implements PasswordEncoder {
 
     private final SecureKeyManager secureKeyManager;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public PPoseekPasswordEncoder(SecureKeyManager secureKeyManager) {
+    public PPoseekPasswordEncoder(SecureKeyManager secureKeyManager, MeterRegistry meterRegistry) {
         this.secureKeyManager = secureKeyManager;
+        this.meterRegistry = meterRegistry;
         // SHA-512 Cryptor에 키 매니저 설정
         Sha512Cryptor.setSecureKeyManager(secureKeyManager);
         // AES-256 Cryptor에 키 매니저 설정
@@ -45,24 +51,45 @@ public class PPoseekPasswordEncoder implements PasswordEncoder {
 
     @Override
     public String encode(CharSequence rawPassword) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            return Sha512Cryptor.encode(rawPassword.toString());
+            String encoded = Sha512Cryptor.encode(rawPassword.toString());
+            outcome = "success";
+            return encoded;
         } catch (NoSuchAlgorithmException e) {
             log.error("비밀번호 암호화 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("비밀번호 암호화에 실패했습니다.", e);
+        } finally {
+            record(sample, "encode", outcome);
         }
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            return Sha512Cryptor.matches(encodedPassword, rawPassword.toString());
+            boolean matched = Sha512Cryptor.matches(encodedPassword, rawPassword.toString());
+            outcome = matched ? "success" : "mismatch";
+            return matched;
         } catch (NoSuchAlgorithmException e) {
             log.error("비밀번호 검증 중 오류 발생: {}", e.getMessage(), e);
             return false;
+        } finally {
+            record(sample, "matches", outcome);
         }
     }
 
+    private void record(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("auth.password")
+                .description("비밀번호 해시 생성/검증 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
     /**
      * 비밀번호 강도 검증.
      * 
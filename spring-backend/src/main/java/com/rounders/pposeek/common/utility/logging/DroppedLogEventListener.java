@@ -0,0 +1,30 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.utility.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+import net.logstash.logback.appender.listener.AppenderListener;
+
+/**
+ * 비동기 appender 가 링 버퍼에 넣지 못하고 버린 이벤트 수를 센다.
+ * (appendTimeout 안에 자리가 나지 않은 경우)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public class DroppedLogEventListener implements AppenderListener<ILoggingEvent> {
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        DroppedLogEvents.increment(DroppedLogEvents.Reason.QUEUE_FULL);
+    }
+}
@@ -0,0 +1,61 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.utility.logging;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 로그 이벤트 수.
+ * Logback 설정으로 만들어지는 필터/리스너는 Spring 빈이 아니므로 정적 카운터에 모으고,
+ * LoggingMetricsConfig 가 logging.events.dropped 메트릭으로 노출한다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public final class DroppedLogEvents {
+
+    /**
+     * 버려진 이유
+     */
+    public enum Reason {
+        /** 비동기 appender 링 버퍼가 가득 참 */
+        QUEUE_FULL,
+        /** 로거별 초당 최대 건수 초과 */
+        RATE_LIMITED,
+        /** 로거별 샘플링에서 제외 */
+        SAMPLED
+    }
+
+    private static final Map<Reason, LongAdder> COUNTS = new EnumMap<>(Reason.class);
+
+    static {
+        for (Reason reason : Reason.values()) {
+            COUNTS.put(reason, new LongAdder());
+        }
+    }
+
+    /**
+     * DroppedLogEvents Constructor
+     * <p>유틸리티 클래스는 생성자를 이용해 생성하는 것을 금지한다.</p>
+     */
+    private DroppedLogEvents() {
+        throw new IllegalStateException("Utility Class");
+    }
+
+    public static void increment(Reason reason) {
+        COUNTS.get(reason).increment();
+    }
+
+    public static long count(Reason reason) {
+        return COUNTS.get(reason).sum();
+    }
+}
@@ -0,0 +1,161 @@
+/*****************************************************************
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.utility.logging;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 로그 샘플링/초당 건수 제한 필터.
+ * <p>
+ * 지정한 로거(이름 접두어)의 임계 레벨 이하 이벤트를 샘플링 비율만큼만 남기고,
+ * 로거마다 초당 최대 건수를 넘는 이벤트는 버린다. WARN/ERROR 처럼 임계 레벨보다 높은 이벤트는 항상 통과한다.
+ * TurboFilter 는 로그 이벤트 객체를 만들기 전에 호출되므로 버린 이벤트는 메시지 포맷/할당 비용이 없다.
+ * 버린 건수는 {@link DroppedLogEvents} 로 센다.
+ * </p>
+ * <pre>
+ * &lt;turboFilter class="...LogRateLimitTurboFilter"&gt;
+ *     &lt;loggers&gt;com.example.HotService,org.mybatis&lt;/loggers&gt;
+ *     &lt;threshold&gt;INFO&lt;/threshold&gt;
+ *     &lt;maxEventsPerSecond&gt;20&lt;/maxEventsPerSecond&gt;
+ *     &lt;sampleRate&gt;1.0&lt;/sampleRate&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ *
+ * @apiNote
+ * 2025	siunkimm	최초 작성<br/>
+ */
+public class LogRateLimitTurboFilter extends TurboFilter {
+
+    /**
+     * 초 단위 창 상태의 건수 비트 수 (상위 비트는 epoch 초)
+     */
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private List<String> loggerPrefixes = List.of();
+    private Level threshold = Level.INFO;
+
+    /**
+     * 로거별 초당 최대 건수 (0 이하: 제한 없음)
+     */
+    private int maxEventsPerSecond;
+
+    /**
+     * 남길 비율 (1.0: 샘플링 안 함)
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * 로거 이름 -> (epoch 초 << COUNT_BITS | 해당 초의 건수)
+     */
+    private final Map<String, AtomicLong> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 초 단위 창 기준 시계 (테스트에서 교체)
+     */
+    private Clock clock = Clock.systemUTC();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isDebugEnabled() 같은 레벨 확인 호출, 임계 레벨보다 높은 이벤트, 어차피 출력되지 않는 이벤트는 관여하지 않음
+        if (!isStarted() || format == null || level.toInt() > threshold.toInt()
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            DroppedLogEvents.increment(DroppedLogEvents.Reason.SAMPLED);
+            return FilterReply.DENY;
+        }
+        if (maxEventsPerSecond > 0 && !tryAcquire(logger.getName())) {
+            DroppedLogEvents.increment(DroppedLogEvents.Reason.RATE_LIMITED);
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * 현재 초의 건수를 하나 늘림 (초가 바뀌면 1부터 다시 셈).
+     */
+    private boolean tryAcquire(String loggerName) {
+        AtomicLong window = windows.computeIfAbsent(loggerName, name -> new AtomicLong());
+        long now = clock.millis() / 1000;
+        while (true) {
+            long state = window.get();
+            long next;
+            if (state >>> COUNT_BITS != now) {
+                next = (now << COUNT_BITS) | 1;
+            } else if ((state & COUNT_MASK) >= maxEventsPerSecond) {
+                return false;
+            } else {
+                next = state + 1;
+            }
+            if (window.compareAndSet(state, next)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 대상 로거 이름 접두어 (쉼표 구분).
+     */
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+    }
+
+    public void setThreshold(String threshold) {
+        this.threshold = Level.toLevel(threshold, Level.INFO);
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = (int) Math.min(maxEventsPerSecond, COUNT_MASK);
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = Math.max(0.0, Math.min(sampleRate, 1.0));
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        if (loggerPrefixes.isEmpty()) {
+            addWarn("No loggers configured for " + getName() + ", filter will not be applied");
+        }
+        super.start();
+    }
+}
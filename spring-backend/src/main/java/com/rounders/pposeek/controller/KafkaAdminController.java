@@ -0,0 +1,54 @@
+package com.rounders.pposeek.controller;
+
+import com.rounders.pposeek.common.business.kafka_ai.KafkaDeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka 운영 관리 컨트롤러 (ADMIN 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/kafka")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Kafka Admin", description = "Kafka DLT 관리 API")
+public class KafkaAdminController {
+
+    private static final int MAX_REPLAY_RECORDS = 1000;
+
+    private final KafkaDeadLetterService kafkaDeadLetterService;
+
+    @PostMapping("/dlt/{topic}/replay")
+    @Operation(summary = "DLT 재주입", description = "{topic}-dlt 에 쌓인 메시지를 원래 토픽으로 다시 발행")
+    public ResponseEntity<Map<String, Object>> replayDeadLetters(@PathVariable String topic,
+                                                                 @RequestParam(value = "max", defaultValue = "100") int max) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("topic", topic);
+
+        try {
+            int replayed = kafkaDeadLetterService.replay(topic, Math.min(Math.max(max, 1), MAX_REPLAY_RECORDS));
+            response.put("status", "success");
+            response.put("replayed", replayed);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("status", "error");
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("status", "error");
+            response.put("message", e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+}
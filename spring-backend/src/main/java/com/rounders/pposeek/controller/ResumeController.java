@@ -1,38 +1,328 @@
 package com.rounders.pposeek.controller;
 
-import com.rounders.pposeek.common.model.dto.kafka.ResumeAnalysisRequest;
-import com.rounders.pposeek.common.business.kafka_ai.KafkaProducerService;
-import com.rounders.pposeek.common.business.blob_storage.AzureBlobStorageService; // 새로 만든 서비스 임포트
+import com.rounders.pposeek.common.business.analysis.AnalysisJobService;
+import com.rounders.pposeek.common.business.analysis.AnalysisLatencyRecorder;
+import com.rounders.pposeek.common.business.analysis.ResumeSubmissionService;
+import com.rounders.pposeek.common.business.blob_storage.DirectUploadService;
+import com.rounders.pposeek.common.business.upload.ChunkedUploadService;
+import com.rounders.pposeek.common.model.constant.AnalysisJobStatus;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisHistoryPageDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisJobDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisSubmissionDto;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisTraceDto;
+import com.rounders.pposeek.common.model.dto.blob.BlobUploadResultDto;
+import com.rounders.pposeek.common.model.dto.blob.DirectUploadDto;
+import com.rounders.pposeek.common.model.dto.kafka.AnalysisFeedback;
+import com.rounders.pposeek.common.model.dto.upload.UploadPartDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadSessionDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
 @RestController
 @RequestMapping("/api/resume") // 상위 경로를 /api/resume으로 변경
 @RequiredArgsConstructor
 public class ResumeController {
 
-    private final KafkaProducerService producerService;
-    private final AzureBlobStorageService azureBlobStorageService; 
+    private static final String ANALYSIS_STATUS_PATH = "/api/resume/analyses/{jobId}";
+    private static final String UPLOAD_SESSION_PATH = "/api/resume/uploads/{uploadId}";
+
+    private final AnalysisJobService analysisJobService;
+    private final ResumeSubmissionService resumeSubmissionService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final DirectUploadService directUploadService;
+    private final AnalysisLatencyRecorder analysisLatencyRecorder;
 
     @PostMapping("/upload") // 하위 경로를 /upload로 변경
-    public ResponseEntity<String> analyzeResume(@RequestParam("file") MultipartFile file, @RequestParam("userId") String userId) {
+    public ResponseEntity<?> analyzeResume(@RequestParam("file") MultipartFile file, @RequestParam("userId") String userId) {
+        try {
+            // 1. 블랍스토리지 업로드 (SHA-256 계산) 후 같은 파일의 완료된 분석이 있으면 바로 반환
+            AnalysisFeedback reused = resumeSubmissionService.uploadAndRequestAnalysis(file, userId, analysisLatencyRecorder.start());
+            if (reused != null) {
+                return ResponseEntity.ok(reused);
+            }
+
+            // 2. 새 분석 요청은 Outbox에 기록되었고 완료 시 WebSocket으로 전달된다
+            return ResponseEntity.ok("이력서 분석 요청이 접수되었습니다. 완료 시 알림이 전송됩니다.");
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("파일 업로드 또는 분석 요청에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 이력서 스트리밍 업로드 (Content-Type: application/octet-stream, 본문 = 파일 내용).
+     * multipart 처리(메모리/임시 파일 버퍼링) 없이 요청 본문을 Blob Storage로 바로 전송한다.
+     */
+    @PostMapping(value = "/upload/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> analyzeResumeStream(HttpServletRequest request,
+                                                 @RequestParam("filename") String filename,
+                                                 Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String userId = authentication.getName();
+        try (InputStream in = request.getInputStream()) {
+            AnalysisFeedback reused = resumeSubmissionService.uploadStreamAndRequestAnalysis(
+                    in, StringUtils.getFilename(filename), userId, analysisLatencyRecorder.start());
+            if (reused != null) {
+                return ResponseEntity.ok(reused);
+            }
+            return ResponseEntity.ok("이력서 분석 요청이 접수되었습니다. 완료 시 알림이 전송됩니다.");
+        } catch (MaxUploadSizeExceededException e) {
+            log.warn("스트리밍 업로드 크기 초과: userId={}", userId);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("파일 크기가 허용된 최대 크기를 초과했습니다.");
+        } catch (Exception e) {
+            log.error("스트리밍 업로드 실패: userId={} - {}", userId, e.getMessage(), e);
+            return ResponseEntity.status(500).body("파일 업로드 또는 분석 요청에 실패했습니다.");
+        }
+    }
+
+    /**
+     * Storage 직접 업로드 URL 발급 (쓰기 전용 SAS, 짧은 만료 시간).
+     * 클라이언트는 uploadUrl 로 파일을 PUT 한 뒤 /uploads/direct/confirm 을 호출한다.
+     */
+    @PostMapping("/uploads/direct")
+    public ResponseEntity<?> createDirectUpload(@RequestParam("filename") String filename, Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            DirectUploadDto upload = directUploadService.createUpload(authentication.getName(), StringUtils.getFilename(filename));
+            return ResponseEntity.ok(upload);
+        } catch (Exception e) {
+            log.error("직접 업로드 URL 발급 실패: userId={} - {}", authentication.getName(), e.getMessage(), e);
+            return ResponseEntity.status(500).body("업로드 URL을 발급하지 못했습니다.");
+        }
+    }
+
+    /**
+     * Storage 직접 업로드 확인 후 분석 요청 (응답은 /upload 와 같음).
+     */
+    @PostMapping("/uploads/direct/confirm")
+    public ResponseEntity<?> confirmDirectUpload(@RequestParam("blobName") String blobName, Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String userId = authentication.getName();
+        try {
+            // 업로드 구간은 Storage 직접 업로드 확인(해시 계산)까지
+            AnalysisTraceDto trace = analysisLatencyRecorder.start();
+            BlobUploadResultDto upload = analysisLatencyRecorder.observeUpload(trace,
+                    () -> directUploadService.confirmUpload(userId, blobName));
+            if (upload == null) {
+                return ResponseEntity.notFound().build();
+            }
+            AnalysisFeedback reused = resumeSubmissionService.requestOrReuseAnalysis(upload, userId, trace);
+            if (reused != null) {
+                return ResponseEntity.ok(reused);
+            }
+            return ResponseEntity.ok("이력서 분석 요청이 접수되었습니다. 완료 시 알림이 전송됩니다.");
+        } catch (MaxUploadSizeExceededException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("파일 크기가 허용된 최대 크기를 초과했습니다.");
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            log.error("직접 업로드 확인 실패: userId={}, blobName={} - {}", userId, blobName, e.getMessage(), e);
+            return ResponseEntity.status(500).body("파일 업로드 또는 분석 요청에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 분할 업로드 시작.
+     * 응답의 partSize 단위로 파일을 나눠 파트 1..N 을 PUT 한 뒤 complete 를 호출한다.
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<?> initiateUpload(@RequestParam("filename") String filename,
+                                            @RequestParam(value = "totalSize", required = false) Long totalSize,
+                                            Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
         try {
-            // 1. 파일을 블랍스토리지 스토리지에 업로드
-            
-            String fileUrl = azureBlobStorageService.upload(file, userId);
+            UploadSessionDto session = chunkedUploadService.initiate(
+                    authentication.getName(), StringUtils.getFilename(filename), totalSize);
+            if (session == null) {
+                return ResponseEntity.status(500).body("업로드 세션을 만들지 못했습니다.");
+            }
+            URI sessionUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path(UPLOAD_SESSION_PATH)
+                    .buildAndExpand(session.getUploadId())
+                    .toUri();
+            return ResponseEntity.created(sessionUri).body(session);
+        } catch (MaxUploadSizeExceededException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("파일 크기가 허용된 최대 크기를 초과했습니다.");
+        }
+    }
 
-            // 2. Kafka에 분석 요청 메시지 전송
-            ResumeAnalysisRequest request = new ResumeAnalysisRequest(userId, fileUrl);
-            producerService.sendResumeAnalysisRequest(request);
+    /**
+     * 분할 업로드 세션 조회 (재개 시 전송 완료된 파트 확인).
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<?> getUpload(@PathVariable String uploadId, Authentication authentication) {
+        UploadSessionDto session = authentication == null ? null : chunkedUploadService.getSession(uploadId, authentication.getName());
+        if (session == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(session);
+    }
 
+    /**
+     * 분할 업로드 파트 전송 (Content-Type: application/octet-stream, 본문 = 파트 내용).
+     * 같은 파트를 다시 보내도 되며, 응답을 받은 파트까지가 확인된 재개 지점이다.
+     */
+    @PutMapping(value = "/uploads/{uploadId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> uploadPart(@PathVariable String uploadId,
+                                        @PathVariable int partNumber,
+                                        HttpServletRequest request,
+                                        Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.notFound().build();
+        }
+        try (InputStream in = request.getInputStream()) {
+            UploadPartDto part = chunkedUploadService.uploadPart(uploadId, authentication.getName(), partNumber, in);
+            if (part == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(part);
+        } catch (MaxUploadSizeExceededException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("파트 크기가 허용된 크기를 초과했습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            log.warn("분할 업로드 파트 전송 실패: uploadId={}, part={} - {}", uploadId, partNumber, e.getMessage());
+            return ResponseEntity.status(500).body("파트 업로드에 실패했습니다. 같은 파트를 다시 전송해주세요.");
+        }
+    }
+
+    /**
+     * 분할 업로드 완료 후 분석 요청 (응답은 /upload 와 같음).
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<?> completeUpload(@PathVariable String uploadId, Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String userId = authentication.getName();
+        try {
+            // 업로드 구간은 파트 커밋(완료 요청)까지
+            AnalysisTraceDto trace = analysisLatencyRecorder.start();
+            BlobUploadResultDto upload = analysisLatencyRecorder.observeUpload(trace,
+                    () -> chunkedUploadService.complete(uploadId, userId));
+            if (upload == null) {
+                return ResponseEntity.notFound().build();
+            }
+            AnalysisFeedback reused = resumeSubmissionService.requestOrReuseAnalysis(upload, userId, trace);
+            if (reused != null) {
+                return ResponseEntity.ok(reused);
+            }
             return ResponseEntity.ok("이력서 분석 요청이 접수되었습니다. 완료 시 알림이 전송됩니다.");
+        } catch (MaxUploadSizeExceededException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body("파일 크기가 허용된 최대 크기를 초과했습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
+            log.error("분할 업로드 완료 실패: uploadId={}, userId={} - {}", uploadId, userId, e.getMessage(), e);
             return ResponseEntity.status(500).body("파일 업로드 또는 분석 요청에 실패했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 이력서 분석 비동기 제출.
+     * 분석 작업만 기록하고 202를 반환하며, Blob 업로드와 분석 요청은 analysisTaskExecutor에서 처리한다.
+     */
+    @PostMapping("/analyses")
+    public ResponseEntity<?> submitAnalysis(@RequestParam("file") MultipartFile file, Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        String userId = authentication.getName();
+        AnalysisTraceDto trace = analysisLatencyRecorder.start();
+        Path tempFile = null;
+        String jobId = null;
+        try {
+            // 1. 요청이 끝나면 multipart 임시 파일이 지워지므로 별도 임시 파일로 옮겨둔다
+            tempFile = Files.createTempFile("resume-", ".upload");
+            file.transferTo(tempFile);
+
+            // 2. 분석 작업 생성 후 업로드/분석 요청은 백그라운드로 넘긴다
+            jobId = analysisJobService.createAnalysisJob(userId);
+            resumeSubmissionService.uploadAndRequestAnalysis(jobId, userId, tempFile, file.getOriginalFilename(), trace);
+
+            URI statusUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path(ANALYSIS_STATUS_PATH)
+                    .buildAndExpand(jobId)
+                    .toUri();
+            AnalysisSubmissionDto submission = AnalysisSubmissionDto.builder()
+                    .jobId(jobId)
+                    .status(AnalysisJobStatus.REQUESTED.name())
+                    .statusUrl(statusUri.getPath())
+                    .build();
+            return ResponseEntity.accepted().location(statusUri).body(submission);
+        } catch (TaskRejectedException e) {
+            log.warn("분석 제출 대기열 초과: userId={}", userId);
+            analysisJobService.failAnalysisJob(jobId);
+            resumeSubmissionService.deleteTempFile(tempFile);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (Exception e) {
+            log.error("분석 제출 실패: userId={} - {}", userId, e.getMessage(), e);
+            if (tempFile != null) {
+                resumeSubmissionService.deleteTempFile(tempFile);
+            }
+            return ResponseEntity.status(500).body("파일 업로드 또는 분석 요청에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 내 이력서 분석 이력 조회 (키셋 페이징, 최신순).
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달한다.
+     */
+    @GetMapping("/analyses")
+    public ResponseEntity<?> getAnalysisHistory(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                @RequestParam(value = "size", defaultValue = "20") int size,
+                                                Authentication authentication) {
+        if (authentication == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        AnalysisHistoryPageDto page = analysisJobService.getAnalysisHistory(authentication.getName(), cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 이력서 분석 작업 상태 조회.
+     */
+    @GetMapping("/analyses/{jobId}")
+    public ResponseEntity<?> getAnalysisStatus(@PathVariable String jobId, Authentication authentication) {
+        AnalysisJobDto job = analysisJobService.getAnalysisJob(jobId);
+        // 다른 사용자의 작업은 존재 여부도 노출하지 않는다
+        if (job == null || authentication == null || !job.getUserId().equals(authentication.getName())) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job);
+    }
+}
@@ -8,6 +8,7 @@
  *****************************************************************/
 package com.rounders.pposeek.controller;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,17 +17,21 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.rounders.pposeek.common.business.auth.AuthService;
 import com.rounders.pposeek.common.config.JwtConfig;
+import com.rounders.pposeek.common.model.dto.auth.ActiveSessionPageDto;
 import com.rounders.pposeek.common.model.dto.auth.LoginDto;
 import com.rounders.pposeek.common.model.dto.auth.RegisterDto;
 import com.rounders.pposeek.common.model.dto.auth.TokenInfo;
 import com.rounders.pposeek.common.model.dto.user.UserDto;
 
+import io.jsonwebtoken.JwtException;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
@@ -99,11 +104,13 @@ public class SecurityAuthController {
 
     /**
      * 현재 인증된 사용자 정보 조회.
+     * 응답에 사용자 정보 버전으로 만든 ETag 를 붙이고, If-None-Match 가 현재 버전과 같으면
+     * 사용자 조회와 직렬화 없이 304 를 돌려준다.
      * 
      * @return 사용자 정보
      */
     @GetMapping("/me")
-    public ResponseEntity<?> getCurrentUser(HttpServletRequest request) {
+    public ResponseEntity<?> getCurrentUser(HttpServletRequest request, WebRequest webRequest) {
         try {
             // Authorization 헤더에서 JWT 토큰 추출
             String authHeader = request.getHeader("Authorization");
@@ -113,13 +120,17 @@ public class SecurityAuthController {
             
             String token = authHeader.substring(7); // "Bearer " 제거
             
-            // JWT 토큰에서 직접 userId 추출
-            if (!jwtConfig.isTokenValid(token)) {
+            // 서명/만료 검증과 userId 추출을 한 번의 파싱으로 처리
+            Integer userId = extractUserId(token);
+            if (userId == null) {
                 return ResponseEntity.status(401).body("유효하지 않은 토큰입니다.");
             }
             
-            Integer userId = jwtConfig.extractUserId(token); // 🎯 userId 직접 추출
-            log.debug("JWT에서 추출된 사용자 ID: {}", userId);
+            // 변경 없으면 304 (버전은 캐시 우선)
+            Integer version = authService.getUserVersion(userId);
+            if (version != null && webRequest.checkNotModified(userETag(userId, version))) {
+                return null;
+            }
             
             UserDto user = authService.getCurrentUserById(userId); // 🎯 userId로 조회
             
@@ -128,7 +139,11 @@ public class SecurityAuthController {
             }
             
             log.debug("현재 사용자 정보 조회: {}", user.getUsername());
-            return ResponseEntity.ok(user);
+            // 브라우저가 저장해 두고 매번 재검증하도록 (Spring Security 기본값 no-store 대신)
+            return ResponseEntity.ok()
+                .eTag(userETag(userId, user.getVersion()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(user);
             
         } catch (Exception e) {
             log.error("사용자 정보 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -137,6 +152,33 @@ public class SecurityAuthController {
         }
     }
 
+    /**
+     * 내 활성 세션 목록 조회 (키셋 페이징, 최근 활동순).
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달한다. 세션 토큰은 포함하지 않는다.
+     * 
+     * @return 활성 세션 페이지
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<?> getActiveSessions(HttpServletRequest request,
+                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "size", defaultValue = "20") int size) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return ResponseEntity.status(401).body("인증 토큰이 없습니다.");
+        }
+        Integer userId = extractUserId(authHeader.substring(7));
+        if (userId == null) {
+            return ResponseEntity.status(401).body("유효하지 않은 토큰입니다.");
+        }
+
+        try {
+            ActiveSessionPageDto page = authService.getActiveSessions(userId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * 로그아웃.
      * JWT 방식에서는 클라이언트에서 토큰을 제거하면 되지만,
@@ -187,4 +229,25 @@ public class SecurityAuthController {
                 .body("토큰 검증에 실패했습니다.");
         }
     }
+
+    /**
+     * JWT 서명/만료 검증 후 사용자 ID 추출.
+     * 
+     * @return 사용자 ID (유효하지 않은 토큰이면 null)
+     */
+    private Integer extractUserId(String token) {
+        try {
+            return jwtConfig.extractClaims(token).get("user_id", Integer.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * /me 응답 ETag (사용자 ID + 사용자 정보 버전).
+     */
+    private static String userETag(Integer userId, Integer version) {
+        return "\"" + userId + "-" + (version != null ? version : 0) + "\"";
+    }
 }
@@ -0,0 +1,7 @@
+-- 기존 DB 반영용 (schema.sql 은 CREATE TABLE IF NOT EXISTS 라 이미 있는 테이블은 바뀌지 않음)
+-- Outbox 발행 점유(SENDING + locked_until): 브로커 확인을 기다리는 동안 행 잠금을 잡지 않는다
+-- 같은 message_key 의 발행 중 메시지 확인용 인덱스 (키 단위 순서 보장)
+ALTER TABLE `AnalysisOutbox`
+  MODIFY COLUMN `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'PENDING' COMMENT '발행 상태 (PENDING, SENDING, SENT, DEAD)',
+  ADD COLUMN `locked_until` datetime DEFAULT NULL COMMENT '발행 점유 만료 시간 (SENDING)' AFTER `attempts`,
+  ADD KEY `idx_analysis_outbox_key_status` (`message_key`, `status`);
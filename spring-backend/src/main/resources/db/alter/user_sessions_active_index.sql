@@ -0,0 +1,8 @@
+-- 기존 DB 반영용 (schema.sql 은 CREATE TABLE IF NOT EXISTS 라 이미 있는 테이블은 바뀌지 않음)
+-- 활성 세션 키셋 페이징용 복합 인덱스 (user_id 로 시작하므로 UserSessions_ibfk_1 외래 키 인덱스도 대신함)
+-- 단일 컬럼 인덱스 정리: user_id 는 복합 인덱스로, session_token 은 UNIQUE KEY 와 중복, is_active 는 선택도가 낮아 사용되지 않음
+ALTER TABLE `UserSessions`
+  ADD KEY `idx_user_sessions_user_active` (`user_id`, `is_active`, `last_activity`, `session_id`),
+  DROP KEY `idx_user_sessions_user_id`,
+  DROP KEY `idx_user_sessions_token`,
+  DROP KEY `idx_user_sessions_active`;
@@ -0,0 +1,24 @@
+-- 기존 DB 반영용 (schema.sql 은 CREATE TABLE IF NOT EXISTS 라 이미 있는 테이블은 바뀌지 않음)
+-- UserSessions 를 생성일 기준 일 파티션 테이블로 변경 (테이블 재작성, 트래픽이 적은 시간에 실행)
+-- 일 파티션은 애플리케이션 기동 시 UserSessionPartitionService 가 p_future 를 나눠 만든다
+
+-- 파티션 테이블은 외래 키를 가질 수 없음 (사용자 삭제 시 세션 연쇄 삭제 없음, 세션은 보관 기간 후 파티션과 함께 삭제)
+ALTER TABLE `UserSessions` DROP FOREIGN KEY `UserSessions_ibfk_1`;
+
+UPDATE `UserSessions` SET `created_at` = COALESCE(`last_activity`, NOW()) WHERE `created_at` IS NULL;
+
+-- PRIMARY KEY 에 파티션 키 포함, 세션 토큰 UNIQUE 해제 (JWT 가 255자를 넘으므로 길이도 확장)
+-- 활동 시간 단독 인덱스는 행 단위 정리 DELETE 용이었으므로 삭제
+ALTER TABLE `UserSessions`
+  MODIFY `session_token` varchar(512) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '세션 토큰 (JWT 등)',
+  MODIFY `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '세션 생성 시간 (파티션 키)',
+  DROP PRIMARY KEY,
+  ADD PRIMARY KEY (`session_id`, `created_at`),
+  DROP KEY `session_token`,
+  ADD KEY `idx_user_sessions_token` (`session_token`),
+  DROP KEY `idx_user_sessions_last_activity`;
+
+ALTER TABLE `UserSessions`
+  PARTITION BY RANGE (TO_DAYS(`created_at`)) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+  );
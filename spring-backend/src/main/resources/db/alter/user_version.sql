@@ -0,0 +1,4 @@
+-- 기존 DB 반영용 (schema.sql 은 CREATE TABLE IF NOT EXISTS 라 이미 있는 테이블은 바뀌지 않음)
+-- 사용자 정보 버전: 수정마다 증가, /api/auth/me ETag 로 사용
+ALTER TABLE `User`
+  ADD COLUMN `version` int NOT NULL DEFAULT '0' COMMENT '사용자 정보 버전 (수정마다 증가, /me ETag)' AFTER `last_login`;
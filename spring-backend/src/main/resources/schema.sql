@@ -10,29 +10,104 @@ CREATE TABLE IF NOT EXISTS `User` (
   `role` varchar(20) COLLATE utf8mb4_unicode_ci DEFAULT 'user' COMMENT '사용자 역할 (admin, user 등)',
   `created_at` datetime DEFAULT CURRENT_TIMESTAMP,
   `last_login` datetime DEFAULT NULL,
+  `version` int NOT NULL DEFAULT '0' COMMENT '사용자 정보 버전 (수정마다 증가, /me ETag)',
   PRIMARY KEY (`user_id`),
   UNIQUE KEY `email` (`email`),
   KEY `idx_email` (`email`),
   KEY `idx_user_role` (`role`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
--- 사용자 세션 테이블 (제공된 MySQL 스키마 기준)
+-- 사용자 세션 테이블 (생성일 기준 일 파티션, 보관 기간이 지난 파티션은 통째로 삭제 - UserSessionPartitionService)
+-- 파티션 테이블 제약: 외래 키 없음, PRIMARY KEY 에 파티션 키(created_at) 포함, 세션 토큰은 UNIQUE 대신 일반 인덱스
 CREATE TABLE IF NOT EXISTS `UserSessions` (
   `session_id` bigint NOT NULL AUTO_INCREMENT COMMENT '세션 ID (자동 증가)',
   `user_id` int NOT NULL COMMENT '사용자 ID (User 테이블 참조)',
-  `session_token` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '세션 토큰 (JWT 등)',
+  `session_token` varchar(512) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '세션 토큰 (JWT 등)',
   `session_name` varchar(100) COLLATE utf8mb4_unicode_ci DEFAULT 'Default Session' COMMENT '세션 이름',
-  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP COMMENT '세션 생성 시간',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '세션 생성 시간 (파티션 키)',
   `last_activity` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 활동 시간',
   `is_active` tinyint(1) DEFAULT '1' COMMENT '세션 활성화 상태',
-  PRIMARY KEY (`session_id`),
-  UNIQUE KEY `session_token` (`session_token`),
-  KEY `idx_user_sessions_user_id` (`user_id`),
+  PRIMARY KEY (`session_id`, `created_at`),
   KEY `idx_user_sessions_token` (`session_token`),
-  KEY `idx_user_sessions_active` (`is_active`),
-  KEY `idx_user_sessions_last_activity` (`last_activity`),
-  CONSTRAINT `UserSessions_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `User` (`user_id`) ON DELETE CASCADE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 세션 관리 테이블';
+  KEY `idx_user_sessions_user_active` (`user_id`, `is_active`, `last_activity`, `session_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 세션 관리 테이블'
+PARTITION BY RANGE (TO_DAYS(`created_at`)) (
+  PARTITION p_future VALUES LESS THAN MAXVALUE
+);
+
+-- 이력서 분석 작업 테이블
+CREATE TABLE IF NOT EXISTS `AnalysisJob` (
+  `analysis_id` bigint NOT NULL AUTO_INCREMENT COMMENT '분석 작업 일련번호 (자동 증가)',
+  `job_id` varchar(36) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '분석 작업 ID (UUID)',
+  `user_id` varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '요청 사용자 ID',
+  `file_url` varchar(1024) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '업로드된 이력서 파일 URL',
+  `content_hash` char(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '이력서 파일 SHA-256 (중복 분석 방지)',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'REQUESTED' COMMENT '분석 작업 상태 (REQUESTED, PROCESSING, DONE, FAILED)',
+  `strengths` text COLLATE utf8mb4_unicode_ci COMMENT '분석 결과 - 강점',
+  `weaknesses` text COLLATE utf8mb4_unicode_ci COMMENT '분석 결과 - 약점',
+  `suggestions` text COLLATE utf8mb4_unicode_ci COMMENT '분석 결과 - 개선점',
+  `completed_at` datetime DEFAULT NULL COMMENT '분석 완료 시간',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '작업 생성 시간',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '작업 수정 시간',
+  PRIMARY KEY (`analysis_id`),
+  UNIQUE KEY `uk_analysis_job_job_id` (`job_id`),
+  KEY `idx_analysis_job_user` (`user_id`, `analysis_id`),
+  KEY `idx_analysis_job_user_hash` (`user_id`, `content_hash`, `status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='이력서 분석 작업 테이블';
+
+-- 분석 요청 Outbox 테이블 (분석 작업과 같은 트랜잭션으로 기록, Relay가 Kafka로 발행)
+CREATE TABLE IF NOT EXISTS `AnalysisOutbox` (
+  `outbox_id` bigint NOT NULL AUTO_INCREMENT COMMENT 'Outbox ID (발행 순서)',
+  `aggregate_id` varchar(36) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '분석 작업 ID (AnalysisJob.job_id)',
+  `topic` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '발행 대상 Kafka 토픽',
+  `message_key` varchar(255) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT 'Kafka 메시지 키',
+  `payload` mediumtext COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '메시지 본문 (JSON)',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'PENDING' COMMENT '발행 상태 (PENDING, SENDING, SENT, DEAD)',
+  `attempts` int NOT NULL DEFAULT '0' COMMENT '발행 시도 횟수',
+  `locked_until` datetime DEFAULT NULL COMMENT '발행 점유 만료 시간 (SENDING)',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '기록 시간',
+  `sent_at` datetime DEFAULT NULL COMMENT '발행 완료 시간',
+  PRIMARY KEY (`outbox_id`),
+  KEY `idx_analysis_outbox_status` (`status`, `outbox_id`),
+  KEY `idx_analysis_outbox_key_status` (`message_key`, `status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분석 요청 Outbox 테이블';
+
+-- 오프라인 사용자 대기 메시지 테이블 (WebSocket 미접속 사용자 메모리 대기열 초과분)
+CREATE TABLE IF NOT EXISTS `PendingUserMessage` (
+  `pending_id` bigint NOT NULL AUTO_INCREMENT COMMENT '대기 메시지 ID (전달 순서)',
+  `user_id` varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '수신 사용자 ID',
+  `destination` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '사용자 구독 경로 (/queue/feedback 등)',
+  `payload_type` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '메시지 타입 (클래스명)',
+  `payload` mediumtext COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '메시지 본문 (JSON)',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  PRIMARY KEY (`pending_id`),
+  KEY `idx_pending_user_message_user` (`user_id`, `destination`, `pending_id`),
+  KEY `idx_pending_user_message_created` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='오프라인 사용자 대기 메시지 테이블';
+
+-- 분할 업로드 세션 테이블 (재개 가능한 이력서/포트폴리오 업로드, 파트는 커밋 전 Blob 블록)
+CREATE TABLE IF NOT EXISTS `UploadSession` (
+  `upload_id` varchar(36) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '업로드 세션 ID (UUID)',
+  `user_id` varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '업로드 사용자 ID',
+  `original_filename` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '원본 파일 이름',
+  `part_size` int NOT NULL COMMENT '파트 크기 (바이트, 마지막 파트만 작을 수 있음)',
+  `total_size` bigint DEFAULT NULL COMMENT '클라이언트가 알린 전체 크기 (바이트)',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'UPLOADING' COMMENT '세션 상태 (UPLOADING, COMPLETING, COMPLETED)',
+  `expires_at` datetime NOT NULL COMMENT '만료 시간 (파트 업로드마다 연장)',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '세션 생성 시간',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '세션 수정 시간',
+  PRIMARY KEY (`upload_id`),
+  KEY `idx_upload_session_expires` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분할 업로드 세션 테이블';
+
+-- 분할 업로드 파트 테이블 (전송 완료가 확인된 파트)
+CREATE TABLE IF NOT EXISTS `UploadPart` (
+  `upload_id` varchar(36) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '업로드 세션 ID (UploadSession.upload_id)',
+  `part_number` int NOT NULL COMMENT '파트 번호 (1부터)',
+  `size` int NOT NULL COMMENT '파트 크기 (바이트)',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '전송 완료 시간',
+  PRIMARY KEY (`upload_id`, `part_number`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분할 업로드 파트 테이블';
 
 -- 테스트 데이터 삽입 (password123 해시값)
 INSERT IGNORE INTO `User` (`email`, `password_hash`, `name`, `role`, `created_at`) VALUES
@@ -0,0 +1,257 @@
+/*****************************************************************
+ * 
+ * PPoseek Web Application - Analysis Outbox Relay Test
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.analysis;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.rounders.pposeek.common.business.kafka_ai.KafkaProducerService;
+import com.rounders.pposeek.common.model.constant.AnalysisJobStatus;
+import com.rounders.pposeek.common.model.constant.OutboxStatus;
+import com.rounders.pposeek.common.model.dto.analysis.AnalysisOutboxDto;
+import com.rounders.pposeek.common.model.dto.kafka.ResumeAnalysisRequest;
+import com.rounders.pposeek.common.persistence.analysis.AnalysisPersistenceAdapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분석 요청 Outbox 발행 테스트 (Embedded Kafka).
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class AnalysisJobServiceTest {
+
+    private static final int MESSAGE_COUNT = 5_000;
+    private static final int BATCH_SIZE = 200;
+
+    private static EmbeddedKafkaBroker broker;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1, KafkaProducerService.TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void testPublishPendingBatchRelaysInOrder() throws Exception {
+        // Given - 발행 대기 Outbox (SELECT ... ORDER BY outbox_id LIMIT n 동작을 흉내냄)
+        Map<Long, AnalysisOutboxDto> outbox = new LinkedHashMap<>();
+        for (long id = 1; id <= MESSAGE_COUNT; id++) {
+            ResumeAnalysisRequest request = new ResumeAnalysisRequest("1", "https://blob/resume-" + id + ".pdf", "job-" + id);
+            outbox.put(id, outbox(id, request.getUserId(), objectMapper.writeValueAsString(request)));
+        }
+        AnalysisPersistenceAdapter adapter = mockOutboxTable(outbox);
+        AnalysisJobService analysisJobService = analysisJobService(adapter);
+
+        // When
+        int total = 0;
+        int published;
+        do {
+            published = publishPendingBatch(analysisJobService, BATCH_SIZE, 10);
+            total += published;
+        } while (published == BATCH_SIZE);
+
+        // Then
+        assertEquals(MESSAGE_COUNT, total);
+        assertTrue(outbox.values().stream().allMatch(message -> OutboxStatus.SENT.name().equals(message.getStatus())));
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("outbox-relay-test", "false", broker);
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                consumerProps, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, KafkaProducerService.TOPIC);
+            ConsumerRecords<String, String> records =
+                    KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(30), MESSAGE_COUNT);
+
+            List<String> jobIds = new ArrayList<>();
+            for (ConsumerRecord<String, String> record : records) {
+                jobIds.add(objectMapper.readValue(record.value(), ResumeAnalysisRequest.class).getJobId());
+            }
+            assertEquals(MESSAGE_COUNT, jobIds.size());
+            // 같은 키(사용자)의 메시지는 outbox_id 순서대로 도착해야 한다
+            for (int i = 0; i < jobIds.size(); i++) {
+                assertEquals("job-" + (i + 1), jobIds.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testPoisonMessageBlocksOnlyItsKeyUntilDead() throws Exception {
+        // Given - 맨 앞 메시지의 payload가 손상된 경우 (같은 키 1건, 다른 키 2건이 뒤따름)
+        Map<Long, AnalysisOutboxDto> outbox = new LinkedHashMap<>();
+        outbox.put(1L, outbox(1L, "1", "{not-json"));
+        outbox.put(2L, outbox(2L, "1", objectMapper.writeValueAsString(new ResumeAnalysisRequest("1", "url-2", "job-2"))));
+        outbox.put(3L, outbox(3L, "2", objectMapper.writeValueAsString(new ResumeAnalysisRequest("2", "url-3", "job-3"))));
+        outbox.put(4L, outbox(4L, "3", objectMapper.writeValueAsString(new ResumeAnalysisRequest("3", "url-4", "job-4"))));
+        AnalysisPersistenceAdapter adapter = mockOutboxTable(outbox);
+        AnalysisJobService analysisJobService = analysisJobService(adapter);
+
+        // When / Then - 첫 주기: 다른 키는 발행되고, 같은 키의 뒤 메시지만 시도 횟수 증가 없이 보류된다
+        assertEquals(2, publishPendingBatch(analysisJobService, 10, 3));
+        assertStatus(outbox, 1L, OutboxStatus.PENDING, 1);
+        assertStatus(outbox, 2L, OutboxStatus.PENDING, 0);
+        assertStatus(outbox, 3L, OutboxStatus.SENT, 1);
+        assertStatus(outbox, 4L, OutboxStatus.SENT, 1);
+
+        // 두 번째 주기: 여전히 실패, 같은 키는 계속 보류
+        assertEquals(0, publishPendingBatch(analysisJobService, 10, 3));
+        assertStatus(outbox, 1L, OutboxStatus.PENDING, 2);
+        assertStatus(outbox, 2L, OutboxStatus.PENDING, 0);
+
+        // 세 번째 주기: 최대 시도 횟수에 도달해 DEAD, 같은 키의 다음 메시지가 발행된다
+        assertEquals(1, publishPendingBatch(analysisJobService, 10, 3));
+        assertStatus(outbox, 1L, OutboxStatus.DEAD, 3);
+        assertStatus(outbox, 2L, OutboxStatus.SENT, 1);
+        verify(adapter).updateAnalysisJobStatus("job-1", AnalysisJobStatus.FAILED.name());
+
+        assertEquals(0, publishPendingBatch(analysisJobService, 10, 3));
+    }
+
+    @Test
+    void testFailedSendStopsLaterSameKeyMessagesBeforeTheyReachBroker() throws Exception {
+        // Given - 키 1의 첫 메시지는 첫 전송에서 브로커 확인이 늦게 실패한다
+        Map<Long, AnalysisOutboxDto> outbox = new LinkedHashMap<>();
+        outbox.put(1L, outbox(1L, "1", objectMapper.writeValueAsString(new ResumeAnalysisRequest("1", "url-1", "job-1"))));
+        outbox.put(2L, outbox(2L, "1", objectMapper.writeValueAsString(new ResumeAnalysisRequest("1", "url-2", "job-2"))));
+        outbox.put(3L, outbox(3L, "2", objectMapper.writeValueAsString(new ResumeAnalysisRequest("2", "url-3", "job-3"))));
+        AnalysisPersistenceAdapter adapter = mockOutboxTable(outbox);
+
+        List<String> published = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean failFirst = new AtomicBoolean(true);
+        KafkaProducerService kafkaProducerService = mock(KafkaProducerService.class);
+        when(kafkaProducerService.publish(anyString(), anyString(), any(ResumeAnalysisRequest.class))).thenAnswer(invocation -> {
+            String jobId = invocation.<ResumeAnalysisRequest>getArgument(2).getJobId();
+            published.add(jobId);
+            if ("job-1".equals(jobId) && failFirst.getAndSet(false)) {
+                return CompletableFuture.supplyAsync(() -> {
+                    throw new IllegalStateException("broker unavailable");
+                }, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+            }
+            return CompletableFuture.completedFuture(null);
+        });
+        AnalysisJobService analysisJobService = new AnalysisJobService(adapter, kafkaProducerService, objectMapper);
+
+        // When / Then - 첫 주기: 같은 키의 뒤 메시지는 브로커로 보내지 않는다
+        assertEquals(1, publishPendingBatch(analysisJobService, 10, 3));
+        assertEquals(List.of("job-1", "job-3"), published.stream().sorted().toList());
+        assertStatus(outbox, 1L, OutboxStatus.PENDING, 1);
+        assertStatus(outbox, 2L, OutboxStatus.PENDING, 0);
+        assertStatus(outbox, 3L, OutboxStatus.SENT, 1);
+
+        // 두 번째 주기: 실패한 메시지부터 순서대로 브로커에 도착
+        published.clear();
+        assertEquals(2, publishPendingBatch(analysisJobService, 10, 3));
+        assertEquals(List.of("job-1", "job-2"), published);
+        assertStatus(outbox, 1L, OutboxStatus.SENT, 2);
+        assertStatus(outbox, 2L, OutboxStatus.SENT, 1);
+    }
+
+    /**
+     * Relay 한 주기 (점유 후 발행).
+     */
+    private int publishPendingBatch(AnalysisJobService analysisJobService, int batchSize, int maxAttempts) {
+        List<AnalysisOutboxDto> claimed = analysisJobService.claimPendingOutbox(batchSize, 60);
+        return analysisJobService.publishClaimedOutbox(claimed, 30_000, maxAttempts);
+    }
+
+    private AnalysisJobService analysisJobService(AnalysisPersistenceAdapter adapter) {
+        KafkaTemplate<String, ResumeAnalysisRequest> kafkaTemplate = new KafkaTemplate<>(
+                new DefaultKafkaProducerFactory<>(KafkaTestUtils.producerProps(broker),
+                        new StringSerializer(), new JsonSerializer<>()));
+        return new AnalysisJobService(adapter, new KafkaProducerService(kafkaTemplate), objectMapper);
+    }
+
+    /**
+     * AnalysisOutbox 테이블 상태 전이를 메모리에서 흉내내는 Adapter (단일 Relay 기준).
+     */
+    private AnalysisPersistenceAdapter mockOutboxTable(Map<Long, AnalysisOutboxDto> outbox) {
+        AnalysisPersistenceAdapter adapter = mock(AnalysisPersistenceAdapter.class);
+        when(adapter.selectPendingOutboxForUpdate(anyInt())).thenAnswer(invocation -> outbox.values().stream()
+                .filter(message -> OutboxStatus.PENDING.name().equals(message.getStatus()))
+                .limit((int) invocation.getArgument(0))
+                .toList());
+        when(adapter.markOutboxSending(anyList(), anyLong())).thenAnswer(invocation ->
+                transition(outbox, invocation.getArgument(0), OutboxStatus.SENDING, 0));
+        when(adapter.markOutboxSent(anyList())).thenAnswer(invocation ->
+                transition(outbox, invocation.getArgument(0), OutboxStatus.SENT, 1));
+        when(adapter.increaseOutboxAttempts(anyList())).thenAnswer(invocation ->
+                transition(outbox, invocation.getArgument(0), OutboxStatus.PENDING, 1));
+        when(adapter.releaseOutbox(anyList())).thenAnswer(invocation ->
+                transition(outbox, invocation.getArgument(0), OutboxStatus.PENDING, 0));
+        when(adapter.markOutboxDead(anyList())).thenAnswer(invocation ->
+                transition(outbox, invocation.getArgument(0), OutboxStatus.DEAD, 1));
+        return adapter;
+    }
+
+    private int transition(Map<Long, AnalysisOutboxDto> outbox, List<Long> outboxIds, OutboxStatus status, int attempts) {
+        for (Long outboxId : outboxIds) {
+            AnalysisOutboxDto message = outbox.get(outboxId);
+            message.setStatus(status.name());
+            message.setAttempts(message.getAttempts() + attempts);
+        }
+        return outboxIds.size();
+    }
+
+    private void assertStatus(Map<Long, AnalysisOutboxDto> outbox, Long outboxId, OutboxStatus status, int attempts) {
+        assertEquals(status.name(), outbox.get(outboxId).getStatus(), "status of " + outboxId);
+        assertEquals(attempts, outbox.get(outboxId).getAttempts(), "attempts of " + outboxId);
+    }
+
+    private AnalysisOutboxDto outbox(Long outboxId, String messageKey, String payload) {
+        return AnalysisOutboxDto.builder()
+                .outboxId(outboxId)
+                .aggregateId("job-" + outboxId)
+                .topic(KafkaProducerService.TOPIC)
+                .messageKey(messageKey)
+                .payload(payload)
+                .status(OutboxStatus.PENDING.name())
+                .attempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Session Partition Planning Test
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.auth;
+
+import org.junit.jupiter.api.Test;
+
+import com.rounders.pposeek.common.model.dto.auth.UserSessionPartitionDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserSessions 파티션 계획(삭제/생성 대상 계산) 테스트.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class UserSessionPartitionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    void testExpiredPartitionsFollowRetentionDays() {
+        List<String> names = List.of("p20250305", "p20250306", "p20250307", "p20250308", "p20250310", "p_future");
+
+        // 보관 시작일 2025-03-07 보다 앞선 파티션만 만료
+        assertEquals(List.of("p20250305", "p20250306"),
+                UserSessionPartitionService.planExpiredPartitions(names, TODAY, 3));
+        // 보관 0일이면 오늘 파티션만 남는다
+        assertEquals(List.of("p20250305", "p20250306", "p20250307", "p20250308"),
+                UserSessionPartitionService.planExpiredPartitions(names, TODAY, 0));
+    }
+
+    @Test
+    void testOnlyDayPartitionNamesAreParsed() {
+        List<String> names = List.of("p_future", "p2025030", "p202503051", "px0250305", "P20250301", "p20250301");
+
+        assertEquals(List.of("p20250301"), UserSessionPartitionService.planExpiredPartitions(names, TODAY, 3));
+        assertEquals("p20250302",
+                UserSessionPartitionService.planFuturePartitions(names, TODAY, 0).get(0).getPartitionName());
+    }
+
+    @Test
+    void testFuturePartitionsUpToPrecreateDays() {
+        List<String> names = List.of("p20250310", "p20250311", "p_future");
+
+        List<UserSessionPartitionDto> partitions = UserSessionPartitionService.planFuturePartitions(names, TODAY, 3);
+
+        assertEquals(List.of("p20250312", "p20250313"), partitions.stream().map(UserSessionPartitionDto::getPartitionName).toList());
+        assertEquals("2025-03-13", partitions.get(0).getLessThan());
+        assertEquals("2025-03-14", partitions.get(1).getLessThan());
+
+        // 이미 충분히 만들어 두었으면 없음
+        assertTrue(UserSessionPartitionService.planFuturePartitions(
+                List.of("p20250313", "p_future"), TODAY, 3).isEmpty());
+    }
+
+    @Test
+    void testFuturePartitionsStartAfterLastDayWhenMaintenanceFellBehind() {
+        // 마지막 일 파티션이 며칠 전이면 그 다음 날부터 빠짐없이 채운다 (p_future 는 맨 위에서만 나눌 수 있음)
+        List<String> names = List.of("p20250305", "p20250306", "p_future");
+
+        List<UserSessionPartitionDto> partitions = UserSessionPartitionService.planFuturePartitions(names, TODAY, 1);
+
+        assertEquals(List.of("p20250307", "p20250308", "p20250309", "p20250310", "p20250311"),
+                partitions.stream().map(UserSessionPartitionDto::getPartitionName).toList());
+    }
+
+    @Test
+    void testFirstRunStartsFromTodayAndAbsorbsOlderRows() {
+        // 일 파티션이 없으면 오늘 파티션(상한 내일 0시)이 이전 created_at 을 모두 가져간다
+        List<UserSessionPartitionDto> partitions =
+                UserSessionPartitionService.planFuturePartitions(List.of("p_future"), TODAY, 2);
+
+        assertEquals(List.of("p20250310", "p20250311", "p20250312"),
+                partitions.stream().map(UserSessionPartitionDto::getPartitionName).toList());
+        assertEquals("2025-03-11", partitions.get(0).getLessThan());
+        assertTrue(UserSessionPartitionService.planExpiredPartitions(List.of("p_future"), TODAY, 3).isEmpty());
+    }
+}
@@ -0,0 +1,223 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Azure Blob Storage Upload Test
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.blob_storage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import com.azure.core.util.BinaryData;
+import com.azure.storage.blob.BlobClientBuilder;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlockListType;
+import com.azure.storage.blob.models.ListBlobsOptions;
+import com.rounders.pposeek.common.model.dto.blob.BlobUploadResultDto;
+import com.rounders.pposeek.common.model.dto.blob.DirectUploadDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Blob 블록 병렬 업로드 테스트 (Azurite).
+ * AZURITE_CONNECTION_STRING 환경 변수가 있을 때만 실행하며, 동시 전송 수별 처리량은 표준 출력으로 기록한다.
+ * (docker compose --profile azurite up azurite)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+@EnabledIfEnvironmentVariable(named = "AZURITE_CONNECTION_STRING", matches = ".+")
+class AzureBlobStorageServiceTest {
+
+    private static final String CONTAINER = "upload-test";
+    private static final DataSize BLOCK_SIZE = DataSize.ofKilobytes(256);
+
+    private static ThreadPoolTaskExecutor executor;
+    private static BlobContainerClient containerClient;
+
+    @BeforeAll
+    static void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.initialize();
+
+        containerClient = new BlobServiceClientBuilder()
+                .connectionString(System.getenv("AZURITE_CONNECTION_STRING"))
+                .buildClient()
+                .getBlobContainerClient(CONTAINER);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        containerClient.deleteIfExists();
+        executor.shutdown();
+    }
+
+    private AzureBlobStorageService service(int maxConcurrency, DataSize streamMaxSize) {
+        BlobBlockUploader uploader = new BlobBlockUploader(executor, new SimpleMeterRegistry(), BLOCK_SIZE, maxConcurrency);
+        return new AzureBlobStorageService(System.getenv("AZURITE_CONNECTION_STRING"), CONTAINER,
+                streamMaxSize, 4, 60, 100, 1000, 100, 1000, uploader);
+    }
+
+    @Test
+    void testMultiBlockUploadCommitsAllBlocks() throws Exception {
+        // Given - 블록 크기의 정수배가 아닌 파일
+        byte[] data = randomBytes(Math.toIntExact(BLOCK_SIZE.toBytes() * 5 + 1234));
+
+        // When
+        BlobUploadResultDto result = service(4, DataSize.ofMegabytes(10))
+                .upload(new MockMultipartFile("file", "multi.pdf", "application/pdf", data), "1");
+
+        // Then
+        String blobName = blobName(result);
+        assertTrue(blobName.startsWith("user_1_") && blobName.endsWith("_multi.pdf"));
+        assertEquals(data.length, result.getSize());
+        assertEquals(sha256(data), result.getContentHash());
+        assertArrayEquals(data, containerClient.getBlobClient(blobName).downloadContent().toBytes());
+        assertEquals(6, containerClient.getBlobClient(blobName).getBlockBlobClient()
+                .listBlocks(BlockListType.COMMITTED).getCommittedBlocks().size());
+    }
+
+    @Test
+    void testSmallFileUploadsInSingleRequest() throws Exception {
+        byte[] data = randomBytes(1000);
+
+        BlobUploadResultDto result = service(4, DataSize.ofMegabytes(10))
+                .upload(new MockMultipartFile("file", "small.pdf", "application/pdf", data), "1");
+
+        assertEquals(sha256(data), result.getContentHash());
+        assertArrayEquals(data, containerClient.getBlobClient(blobName(result)).downloadContent().toBytes());
+    }
+
+    @Test
+    void testSameFilenameUploadsKeepTheirOwnContent() throws Exception {
+        // Given - 같은 사용자가 같은 파일 이름으로 다른 내용을 연달아 업로드
+        AzureBlobStorageService service = service(4, DataSize.ofMegabytes(10));
+        byte[] first = randomBytes(1000);
+        byte[] second = randomBytes(2000);
+
+        // When
+        BlobUploadResultDto firstResult = service.upload(
+                new MockMultipartFile("file", "resume.pdf", "application/pdf", first), "1");
+        BlobUploadResultDto secondResult = service.uploadStream(new ByteArrayInputStream(second), "resume.pdf", "1");
+
+        // Then - 먼저 올린 분석 대상이 나중 업로드로 덮어쓰이지 않는다
+        assertNotEquals(firstResult.getFileUrl(), secondResult.getFileUrl());
+        assertArrayEquals(first, containerClient.getBlobClient(blobName(firstResult)).downloadContent().toBytes());
+        assertArrayEquals(second, containerClient.getBlobClient(blobName(secondResult)).downloadContent().toBytes());
+    }
+
+    @Test
+    void testStreamOverLimitIsNotCommitted() {
+        byte[] data = randomBytes(Math.toIntExact(BLOCK_SIZE.toBytes() * 3));
+        AzureBlobStorageService service = service(4, DataSize.ofBytes(BLOCK_SIZE.toBytes() * 2));
+
+        assertThrows(MaxUploadSizeExceededException.class,
+                () -> service.uploadStream(new ByteArrayInputStream(data), "too-large.pdf", "1"));
+        assertTrue(containerClient.listBlobs(new ListBlobsOptions().setPrefix("user_1_"), null).stream()
+                .noneMatch(item -> item.getName().endsWith("_too-large.pdf")));
+    }
+
+    @Test
+    void testUploadPartsResentOutOfOrderCommitInPartOrder() throws Exception {
+        // Given - 파트 2를 먼저 보내고, 파트 1은 끊긴 뒤 다시 전송
+        int partSize = Math.toIntExact(BLOCK_SIZE.toBytes());
+        byte[] data = randomBytes(partSize * 2 + 100);
+        AzureBlobStorageService service = service(4, DataSize.ofMegabytes(10));
+        String uploadId = UUID.randomUUID().toString();
+
+        // When
+        service.stageUploadPart("1", "chunked.pdf", uploadId, 2, Arrays.copyOfRange(data, partSize, partSize * 2));
+        service.stageUploadPart("1", "chunked.pdf", uploadId, 1, randomBytes(partSize));
+        service.stageUploadPart("1", "chunked.pdf", uploadId, 1, Arrays.copyOfRange(data, 0, partSize));
+        service.stageUploadPart("1", "chunked.pdf", uploadId, 3, Arrays.copyOfRange(data, partSize * 2, data.length));
+        BlobUploadResultDto result = service.commitUploadParts("1", "chunked.pdf", uploadId, 3);
+
+        // Then
+        assertEquals(data.length, result.getSize());
+        assertEquals(sha256(data), result.getContentHash());
+        assertArrayEquals(data, containerClient.getBlobClient("user_1_" + uploadId + "_chunked.pdf").downloadContent().toBytes());
+    }
+
+    @Test
+    void testDirectUploadConfirmAnalyzesServerOwnedCopy() throws Exception {
+        // Given - SAS로 직접 올린 업로드
+        byte[] data = randomBytes(5000);
+        DirectUploadService directUploadService = new DirectUploadService(service(4, DataSize.ofMegabytes(10)),
+                new SimpleMeterRegistry(), 10, DataSize.ofMegabytes(1), 60, 60);
+        DirectUploadDto upload = directUploadService.createUpload("1", "direct.pdf");
+        new BlobClientBuilder().endpoint(upload.getUploadUrl()).buildClient().upload(BinaryData.fromBytes(data));
+
+        // When
+        BlobUploadResultDto result = directUploadService.confirmUpload("1", upload.getBlobName());
+
+        // Then - 분석 대상은 서버 소유 복사본이고, 아직 유효한 SAS로 다시 올려도 바뀌지 않는다
+        assertEquals(sha256(data), result.getContentHash());
+        assertFalse(containerClient.getBlobClient(upload.getBlobName()).exists());
+        new BlobClientBuilder().endpoint(upload.getUploadUrl()).buildClient().upload(BinaryData.fromBytes(randomBytes(6000)));
+        String confirmedName = result.getFileUrl().substring(result.getFileUrl().lastIndexOf('/') + 1);
+        assertArrayEquals(data, containerClient.getBlobClient(confirmedName).downloadContent().toBytes());
+        assertThrows(IllegalStateException.class, () -> directUploadService.confirmUpload("1", upload.getBlobName()));
+    }
+
+    /**
+     * 동시 전송 블록 수별 업로드 처리량 (gradle perfTest, 결과는 표준 출력).
+     */
+    @Test
+    @Tag("perf")
+    void testUploadThroughputByConcurrency() throws Exception {
+        byte[] data = randomBytes(Math.toIntExact(DataSize.ofMegabytes(8).toBytes()));
+
+        for (int concurrency : new int[] {1, 4}) {
+            AzureBlobStorageService service = service(concurrency, DataSize.ofMegabytes(10));
+            long startedAt = System.nanoTime();
+            BlobUploadResultDto result = service.uploadStream(new ByteArrayInputStream(data), "throughput-" + concurrency + ".pdf", "1");
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            assertEquals(sha256(data), result.getContentHash());
+            System.out.printf("Blob upload throughput: concurrency=%d, %d bytes in %.3f s (%.1f MB/s)%n",
+                    concurrency, data.length, elapsedSeconds, data.length / elapsedSeconds / 1_048_576);
+        }
+    }
+
+    /**
+     * 업로드 결과 URL 의 Blob 이름 (업로드마다 UUID 가 붙음)
+     */
+    private static String blobName(BlobUploadResultDto result) {
+        String fileUrl = result.getFileUrl();
+        return URLDecoder.decode(fileUrl.substring(fileUrl.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+}
@@ -0,0 +1,148 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Kafka Dead Letter Replay Test
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.kafka_ai;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DLT 재주입 테스트 (MockConsumer/MockProducer).
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class KafkaDeadLetterServiceTest {
+
+    private static final String TOPIC = KafkaConsumerService.FEEDBACK_TOPIC;
+    private static final String DLT_TOPIC = TOPIC + KafkaDeadLetterService.DLT_SUFFIX;
+
+    @Test
+    void testReplayReachingEndOnOnePartitionKeepsOtherPartitionRecords() {
+        // Given - 두 파티션 모두 시작 시점의 끝 오프셋(2) 뒤에 재주입 도중 DLT로 돌아온 레코드가 하나씩 있다
+        TopicPartition partition0 = new TopicPartition(DLT_TOPIC, 0);
+        TopicPartition partition1 = new TopicPartition(DLT_TOPIC, 1);
+        MockConsumer<String, byte[]> consumer = dltConsumer(partition0, partition1);
+        consumer.updateEndOffsets(Map.of(partition0, 2L, partition1, 2L));
+        consumer.schedulePollTask(() -> {
+            for (TopicPartition partition : List.of(partition0, partition1)) {
+                for (long offset = 0; offset < 3; offset++) {
+                    consumer.addRecord(record(partition, offset));
+                }
+            }
+        });
+        List<MockProducer<String, byte[]>> producers = new ArrayList<>();
+        KafkaDeadLetterService service = service(producers);
+
+        // When
+        int replayed = service.replay(consumer, TOPIC, 10);
+
+        // Then - 끝 오프셋 전의 레코드는 두 파티션 모두 재주입하고, 위치는 커밋 오프셋과 같다
+        assertEquals(4, replayed);
+        List<ProducerRecord<String, byte[]>> sent = producers.stream()
+                .flatMap(producer -> producer.history().stream())
+                .toList();
+        assertEquals(List.of("p0-0", "p0-1", "p1-0", "p1-1"), sent.stream().map(ProducerRecord::key).sorted().toList());
+        assertTrue(sent.stream().allMatch(record -> TOPIC.equals(record.topic())));
+        assertCommittedAtPosition(consumer, partition0, 2);
+        assertCommittedAtPosition(consumer, partition1, 2);
+    }
+
+    @Test
+    void testReplayStopsAtMaxRecordsWithPositionAtCommittedOffset() {
+        // Given
+        TopicPartition partition0 = new TopicPartition(DLT_TOPIC, 0);
+        TopicPartition partition1 = new TopicPartition(DLT_TOPIC, 1);
+        MockConsumer<String, byte[]> consumer = dltConsumer(partition0, partition1);
+        consumer.updateEndOffsets(Map.of(partition0, 3L, partition1, 3L));
+        consumer.schedulePollTask(() -> {
+            for (TopicPartition partition : List.of(partition0, partition1)) {
+                for (long offset = 0; offset < 3; offset++) {
+                    consumer.addRecord(record(partition, offset));
+                }
+            }
+        });
+        List<MockProducer<String, byte[]>> producers = new ArrayList<>();
+        KafkaDeadLetterService service = service(producers);
+
+        // When
+        int replayed = service.replay(consumer, TOPIC, 4);
+
+        // Then - 재주입하지 않은 레코드는 다음 요청에서 읽도록 위치가 커밋 오프셋에 머문다
+        assertEquals(4, replayed);
+        long committed = 0;
+        for (TopicPartition partition : List.of(partition0, partition1)) {
+            OffsetAndMetadata offset = consumer.committed(Set.of(partition)).get(partition);
+            long committedOffset = offset != null ? offset.offset() : 0;
+            assertEquals(committedOffset, consumer.position(partition));
+            committed += committedOffset;
+        }
+        assertEquals(4, committed);
+    }
+
+    private MockConsumer<String, byte[]> dltConsumer(TopicPartition... partitions) {
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        Node node = new Node(0, "localhost", 9092);
+        consumer.updatePartitions(DLT_TOPIC, Arrays.stream(partitions)
+                .map(partition -> new PartitionInfo(DLT_TOPIC, partition.partition(), node, new Node[] {node}, new Node[] {node}))
+                .toList());
+        consumer.updateBeginningOffsets(Arrays.stream(partitions)
+                .collect(Collectors.toMap(partition -> partition, partition -> 0L)));
+        return consumer;
+    }
+
+    /**
+     * KafkaTemplate 은 트랜잭션이 없으면 전송마다 Producer 를 닫으므로 전송마다 새 MockProducer 를 만든다
+     */
+    private KafkaDeadLetterService service(List<MockProducer<String, byte[]>> producers) {
+        return new KafkaDeadLetterService(new SimpleMeterRegistry(),
+                new KafkaTemplate<>(new MockProducerFactory<>(() -> {
+                    MockProducer<String, byte[]> producer =
+                            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+                    producers.add(producer);
+                    return producer;
+                })));
+    }
+
+    private static ConsumerRecord<String, byte[]> record(TopicPartition partition, long offset) {
+        String key = "p" + partition.partition() + "-" + offset;
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, key,
+                key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertCommittedAtPosition(MockConsumer<String, byte[]> consumer, TopicPartition partition,
+                                                  long expected) {
+        assertEquals(expected, consumer.committed(Set.of(partition)).get(partition).offset());
+        assertEquals(expected, consumer.position(partition));
+    }
+}
@@ -0,0 +1,200 @@
+/*****************************************************************
+ * 
+ * PPoseek Web Application - Chunked Upload Session Test
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.upload;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.rounders.pposeek.common.business.blob_storage.AzureBlobStorageService;
+import com.rounders.pposeek.common.model.constant.UploadSessionStatus;
+import com.rounders.pposeek.common.model.dto.blob.BlobUploadResultDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadPartDto;
+import com.rounders.pposeek.common.model.dto.upload.UploadSessionDto;
+import com.rounders.pposeek.common.persistence.upload.UploadSessionPersistenceAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분할 업로드 세션 상태 전이 테스트 (UPLOADING -> COMPLETING -> COMPLETED, 만료 정리).
+ * UploadSession/UploadPart 테이블은 메모리에서 쿼리 조건대로 흉내낸다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class ChunkedUploadServiceTest {
+
+    private static final int PART_SIZE = 4;
+
+    private final Map<String, UploadSessionDto> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, UploadPartDto>> parts = new ConcurrentHashMap<>();
+
+    private AzureBlobStorageService azureBlobStorageService;
+    private ChunkedUploadService chunkedUploadService;
+
+    @BeforeEach
+    void setUp() {
+        azureBlobStorageService = mock(AzureBlobStorageService.class);
+        chunkedUploadService = new ChunkedUploadService(azureBlobStorageService, mockUploadSessionTables(),
+                new SimpleMeterRegistry(), DataSize.ofBytes(PART_SIZE), DataSize.ofBytes(PART_SIZE * 4), 60);
+    }
+
+    @Test
+    void testInitiatePartCompleteTransitionsToCompleted() throws Exception {
+        // Given
+        UploadSessionDto session = chunkedUploadService.initiate("1", "resume.pdf", 6L);
+        String uploadId = session.getUploadId();
+        assertEquals(UploadSessionStatus.UPLOADING.name(), session.getStatus());
+
+        // When - 파트 2를 먼저 보내고 파트 1을 보낸 뒤 완료
+        chunkedUploadService.uploadPart(uploadId, "1", 2, new ByteArrayInputStream(new byte[2]));
+        chunkedUploadService.uploadPart(uploadId, "1", 1, new ByteArrayInputStream(new byte[PART_SIZE]));
+        when(azureBlobStorageService.commitUploadParts("1", "resume.pdf", uploadId, 2)).thenReturn(result());
+        BlobUploadResultDto result = chunkedUploadService.complete(uploadId, "1");
+
+        // Then - 블록은 세션 ID로 전송/커밋되고 완료 후에는 더 이상 파트를 받지 않는다
+        assertNotNull(result);
+        assertEquals(UploadSessionStatus.COMPLETED.name(), sessions.get(uploadId).getStatus());
+        verify(azureBlobStorageService).stageUploadPart(eq("1"), eq("resume.pdf"), eq(uploadId), eq(1), any());
+        verify(azureBlobStorageService).stageUploadPart(eq("1"), eq("resume.pdf"), eq(uploadId), eq(2), any());
+        assertThrows(IllegalStateException.class,
+                () -> chunkedUploadService.uploadPart(uploadId, "1", 1, new ByteArrayInputStream(new byte[PART_SIZE])));
+        assertThrows(IllegalStateException.class, () -> chunkedUploadService.complete(uploadId, "1"));
+        // 다른 사용자에게는 세션이 보이지 않는다
+        assertNull(chunkedUploadService.getSession(uploadId, "2"));
+    }
+
+    @Test
+    void testCommitFailureRevertsToUploading() throws Exception {
+        // Given
+        String uploadId = chunkedUploadService.initiate("1", "resume.pdf", null).getUploadId();
+        chunkedUploadService.uploadPart(uploadId, "1", 1, new ByteArrayInputStream(new byte[3]));
+        when(azureBlobStorageService.commitUploadParts("1", "resume.pdf", uploadId, 1))
+                .thenThrow(new RuntimeException("commit failed"))
+                .thenReturn(result());
+
+        // When / Then - 커밋 실패 시 다시 완료 요청할 수 있도록 UPLOADING 으로 되돌린다
+        assertThrows(RuntimeException.class, () -> chunkedUploadService.complete(uploadId, "1"));
+        assertEquals(UploadSessionStatus.UPLOADING.name(), sessions.get(uploadId).getStatus());
+
+        assertNotNull(chunkedUploadService.complete(uploadId, "1"));
+        assertEquals(UploadSessionStatus.COMPLETED.name(), sessions.get(uploadId).getStatus());
+    }
+
+    @Test
+    void testCompleteRejectsMissingPart() throws Exception {
+        String uploadId = chunkedUploadService.initiate("1", "resume.pdf", null).getUploadId();
+        chunkedUploadService.uploadPart(uploadId, "1", 2, new ByteArrayInputStream(new byte[2]));
+
+        assertThrows(IllegalArgumentException.class, () -> chunkedUploadService.complete(uploadId, "1"));
+        assertEquals(UploadSessionStatus.UPLOADING.name(), sessions.get(uploadId).getStatus());
+    }
+
+    @Test
+    void testExpiredSessionIsHiddenAndSwept() throws Exception {
+        // Given - 파트까지 올라간 뒤 만료된 세션과 아직 유효한 세션
+        String expiredId = chunkedUploadService.initiate("1", "old.pdf", null).getUploadId();
+        chunkedUploadService.uploadPart(expiredId, "1", 1, new ByteArrayInputStream(new byte[PART_SIZE]));
+        String activeId = chunkedUploadService.initiate("1", "new.pdf", null).getUploadId();
+        sessions.get(expiredId).setExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+        // When / Then - 만료된 세션은 조회/파트 전송/완료 모두 없는 세션으로 처리된다
+        assertNull(chunkedUploadService.getSession(expiredId, "1"));
+        assertNull(chunkedUploadService.uploadPart(expiredId, "1", 2, new ByteArrayInputStream(new byte[1])));
+        assertNull(chunkedUploadService.complete(expiredId, "1"));
+
+        chunkedUploadService.deleteExpiredSessions();
+        assertFalse(sessions.containsKey(expiredId));
+        assertFalse(parts.containsKey(expiredId));
+        assertNotNull(chunkedUploadService.getSession(activeId, "1"));
+    }
+
+    private BlobUploadResultDto result() {
+        return BlobUploadResultDto.builder().fileUrl("https://blob/resume.pdf").contentHash("hash").size(6).build();
+    }
+
+    /**
+     * UploadSession/UploadPart 테이블을 메모리에서 흉내내는 Adapter (만료 조건은 매퍼 쿼리와 같음).
+     */
+    private UploadSessionPersistenceAdapter mockUploadSessionTables() {
+        UploadSessionPersistenceAdapter adapter = mock(UploadSessionPersistenceAdapter.class);
+        when(adapter.insertUploadSession(any(), anyLong())).thenAnswer(invocation -> {
+            UploadSessionDto session = invocation.getArgument(0);
+            session.setExpiresAt(LocalDateTime.now().plusMinutes(invocation.<Long>getArgument(1)));
+            sessions.put(session.getUploadId(), session);
+            parts.put(session.getUploadId(), new ConcurrentHashMap<>());
+            return 1;
+        });
+        when(adapter.selectUploadSession(anyString())).thenAnswer(invocation -> {
+            UploadSessionDto session = sessions.get(invocation.<String>getArgument(0));
+            if (session == null || !session.getExpiresAt().isAfter(LocalDateTime.now())) {
+                return null;
+            }
+            return UploadSessionDto.builder()
+                    .uploadId(session.getUploadId())
+                    .userId(session.getUserId())
+                    .originalFilename(session.getOriginalFilename())
+                    .partSize(session.getPartSize())
+                    .totalSize(session.getTotalSize())
+                    .status(session.getStatus())
+                    .expiresAt(session.getExpiresAt())
+                    .build();
+        });
+        when(adapter.selectUploadParts(anyString())).thenAnswer(invocation ->
+                parts.getOrDefault(invocation.<String>getArgument(0), Map.of()).values().stream()
+                        .sorted(Comparator.comparing(UploadPartDto::getPartNumber))
+                        .toList());
+        when(adapter.upsertUploadPart(any())).thenAnswer(invocation -> {
+            UploadPartDto part = invocation.getArgument(0);
+            parts.get(part.getUploadId()).put(part.getPartNumber(), part);
+            return 1;
+        });
+        when(adapter.updateUploadSessionExpiry(anyString(), anyLong())).thenAnswer(invocation -> {
+            sessions.get(invocation.<String>getArgument(0))
+                    .setExpiresAt(LocalDateTime.now().plusMinutes(invocation.<Long>getArgument(1)));
+            return 1;
+        });
+        when(adapter.updateUploadSessionStatus(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            UploadSessionDto session = sessions.get(invocation.<String>getArgument(0));
+            if (session == null || !session.getStatus().equals(invocation.getArgument(1))) {
+                return 0;
+            }
+            session.setStatus(invocation.getArgument(2));
+            return 1;
+        });
+        when(adapter.deleteExpiredUploadSessions()).thenAnswer(invocation -> {
+            List<String> expired = sessions.values().stream()
+                    .filter(session -> !session.getExpiresAt().isAfter(LocalDateTime.now()))
+                    .map(UploadSessionDto::getUploadId)
+                    .toList();
+            expired.forEach(uploadId -> {
+                sessions.remove(uploadId);
+                parts.remove(uploadId);
+            });
+            return expired.size();
+        });
+        return adapter;
+    }
+}
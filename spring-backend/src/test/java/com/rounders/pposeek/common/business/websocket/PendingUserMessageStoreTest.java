@@ -0,0 +1,110 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Pending User Message Store Test
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.rounders.pposeek.common.model.dto.kafka.AnalysisFeedback;
+import com.rounders.pposeek.common.model.dto.websocket.PendingUserMessageDto;
+import com.rounders.pposeek.common.persistence.websocket.PendingMessagePersistenceAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미접속 사용자 대기 메시지 저장소 테스트 (인스턴스 2개가 PendingUserMessage 테이블을 공유).
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class PendingUserMessageStoreTest {
+
+    private static final String DESTINATION = "/queue/feedback";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testRelayModeDeliversOnAnotherInstance() {
+        // Given - relay 모드 인스턴스 2개
+        PendingMessagePersistenceAdapter adapter = mockPendingMessageTable(new ArrayList<>());
+        PendingUserMessageStore consumedOn = store(adapter, "relay");
+        PendingUserMessageStore reconnectedTo = store(adapter, "relay");
+
+        // When - 한 인스턴스가 피드백을 보관하고, 사용자는 다른 인스턴스로 재접속
+        consumedOn.enqueue("1", DESTINATION, feedback("job-1"));
+        consumedOn.enqueue("1", DESTINATION, feedback("job-2"));
+        List<Object> delivered = reconnectedTo.drain("1", DESTINATION);
+
+        // Then - 저장 순서대로 한 번만 전달
+        assertEquals(List.of("job-1", "job-2"),
+                delivered.stream().map(message -> ((AnalysisFeedback) message).getJobId()).toList());
+        assertTrue(consumedOn.drain("1", DESTINATION).isEmpty());
+    }
+
+    @Test
+    void testSimpleModeKeepsMessagesInMemory() {
+        List<PendingUserMessageDto> table = new ArrayList<>();
+        PendingUserMessageStore store = store(mockPendingMessageTable(table), "simple");
+
+        store.enqueue("1", DESTINATION, feedback("job-1"));
+
+        assertTrue(table.isEmpty());
+        assertEquals(1, store.drain("1", DESTINATION).size());
+    }
+
+    private PendingUserMessageStore store(PendingMessagePersistenceAdapter adapter, String brokerMode) {
+        return new PendingUserMessageStore(adapter, objectMapper, new SimpleMeterRegistry(),
+                50, 10000, 1440, false, brokerMode);
+    }
+
+    /**
+     * PendingUserMessage 테이블을 메모리 목록으로 흉내내는 Adapter.
+     */
+    private PendingMessagePersistenceAdapter mockPendingMessageTable(List<PendingUserMessageDto> table) {
+        AtomicLong sequence = new AtomicLong();
+        PendingMessagePersistenceAdapter adapter = mock(PendingMessagePersistenceAdapter.class);
+        when(adapter.insertPendingMessage(any(PendingUserMessageDto.class))).thenAnswer(invocation -> {
+            PendingUserMessageDto row = invocation.getArgument(0);
+            row.setPendingId(sequence.incrementAndGet());
+            table.add(row);
+            return 1;
+        });
+        when(adapter.selectPendingMessages(anyString(), anyString(), anyLong())).thenAnswer(invocation -> table.stream()
+                .filter(row -> row.getUserId().equals(invocation.getArgument(0))
+                        && row.getDestination().equals(invocation.getArgument(1)))
+                .toList());
+        when(adapter.deletePendingMessages(anyList())).thenAnswer(invocation -> {
+            List<Long> pendingIds = invocation.getArgument(0);
+            table.removeIf(row -> pendingIds.contains(row.getPendingId()));
+            return pendingIds.size();
+        });
+        return adapter;
+    }
+
+    private static AnalysisFeedback feedback(String jobId) {
+        AnalysisFeedback feedback = new AnalysisFeedback();
+        feedback.setUserId("1");
+        feedback.setJobId(jobId);
+        feedback.setStatus("completed");
+        return feedback;
+    }
+}
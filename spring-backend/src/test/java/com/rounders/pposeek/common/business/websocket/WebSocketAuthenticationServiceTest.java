@@ -0,0 +1,106 @@
+/*****************************************************************
+ * 
+ * PPoseek Web Application - WebSocket Authentication Test
+ * 
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ * 
+ *****************************************************************/
+package com.rounders.pposeek.common.business.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.rounders.pposeek.common.config.JwtConfig;
+import com.rounders.pposeek.common.utility.crypto.key.SecureKeyManager;
+import com.rounders.pposeek.common.persistence.auth.AuthPersistenceAdapter;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP CONNECT 인증 테스트.
+ * 사용자 조회 빈이 있어도 CONNECT 인증은 JWT 클레임만 사용해야 한다.
+ * 
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class WebSocketAuthenticationServiceTest {
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final AuthPersistenceAdapter authPersistenceAdapter = mock(AuthPersistenceAdapter.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(SecureKeyManager.class, this::secureKeyManager)
+            .withBean(UserDetailsService.class, () -> userDetailsService)
+            .withBean(AuthPersistenceAdapter.class, () -> authPersistenceAdapter)
+            .withUserConfiguration(JwtConfig.class, WebSocketAuthenticationService.class)
+            .withPropertyValues("jwt.expiration=3600");
+
+    @Test
+    void testConnectWithValidTokenDoesNotLoadUser() {
+        contextRunner.run(context -> {
+            String token = context.getBean(JwtConfig.class).generateToken(42, "관리자", "admin@pposeek.com", "admin");
+            WebSocketAuthenticationService service = context.getBean(WebSocketAuthenticationService.class);
+
+            // When - 첫 CONNECT (캐시 미스) 와 재접속 (캐시 적중)
+            UsernamePasswordAuthenticationToken first = service.authenticate(token);
+            UsernamePasswordAuthenticationToken second = service.authenticate(token);
+
+            // Then - 주체와 권한은 클레임(user_id, role)에서 만들어지고 사용자 조회는 없다
+            assertNotNull(first);
+            assertSame(first, second);
+            assertEquals("42", first.getName());
+            assertTrue(authorities(first).containsAll(Set.of("ROLE_ADMIN", "ROLE_USER", "PERMISSION_MANAGE_USERS")));
+            verifyNoInteractions(userDetailsService, authPersistenceAdapter);
+        });
+    }
+
+    @Test
+    void testTokenWithoutRoleClaimGetsDefaultRole() {
+        contextRunner.run(context -> {
+            // 역할 클레임이 없는 이전 발급 토큰
+            String token = context.getBean(JwtConfig.class).generateToken(7, "사용자", "user@pposeek.com", null);
+
+            UsernamePasswordAuthenticationToken authentication =
+                    context.getBean(WebSocketAuthenticationService.class).authenticate(token);
+
+            assertNotNull(authentication);
+            assertEquals("7", authentication.getName());
+            assertEquals(Set.of("ROLE_USER", "PERMISSION_APPLY_JOBS", "PERMISSION_VIEW_PROFILE"), authorities(authentication));
+            verifyNoInteractions(userDetailsService, authPersistenceAdapter);
+        });
+    }
+
+    @Test
+    void testInvalidTokenIsRejected() {
+        contextRunner.run(context -> {
+            assertNull(context.getBean(WebSocketAuthenticationService.class).authenticate("not-a-jwt"));
+            verifyNoInteractions(userDetailsService, authPersistenceAdapter);
+        });
+    }
+
+    private Set<String> authorities(UsernamePasswordAuthenticationToken authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+
+    private SecureKeyManager secureKeyManager() {
+        SecureKeyManager secureKeyManager = mock(SecureKeyManager.class);
+        when(secureKeyManager.getJwtSecret()).thenReturn("websocket-authentication-test-secret-key-0123456789");
+        return secureKeyManager;
+    }
+}
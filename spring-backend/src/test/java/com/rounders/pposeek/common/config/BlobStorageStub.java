@@ -0,0 +1,74 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Blob Storage HTTP Stub
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 Blob Storage 응답 스텁.
+ * 모든 PUT 에 201, 나머지에 200 을 돌려주며, 요청마다 지정한 지연 시간만큼 대기해 Storage 왕복 시간을 흉내 낸다.
+ * 스텁은 플랫폼 스레드로 처리한다. (JDK HttpServer 내부 synchronized 가 고정 이벤트로 섞이지 않도록)
+ * 부하 테스트(src/loadTest)에서도 Blob Storage 대신 사용한다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+public class BlobStorageStub implements AutoCloseable {
+
+    /**
+     * Azurite 기본 개발 계정 키 (공개 값)
+     */
+    private static final String DEV_ACCOUNT_KEY =
+            "Eby8vdM02xNOcqFlqUwJPLlmEtlCDXJ1OUzFT50uSRZ6IFsuFq2UVErCz4I6tq/K1SZFPTOtr/KBHBeksoGMGw==";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    public BlobStorageStub(long latencyMs) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+                sleep(latencyMs);
+                exchange.getResponseHeaders().add("x-ms-request-id", "stub");
+                exchange.getResponseHeaders().add("x-ms-version", "2023-11-03");
+                exchange.getResponseHeaders().add("ETag", "\"stub\"");
+                exchange.getResponseHeaders().add("Last-Modified", "Mon, 01 Jan 2024 00:00:00 GMT");
+                exchange.sendResponseHeaders("PUT".equals(exchange.getRequestMethod()) ? 201 : 200, -1);
+            }
+        });
+        server.start();
+    }
+
+    public String connectionString() {
+        return "DefaultEndpointsProtocol=http;AccountName=devstoreaccount1;AccountKey=" + DEV_ACCOUNT_KEY
+                + ";BlobEndpoint=http://127.0.0.1:" + server.getAddress().getPort() + "/devstoreaccount1";
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
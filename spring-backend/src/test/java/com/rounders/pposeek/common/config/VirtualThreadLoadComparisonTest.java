@@ -0,0 +1,130 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Virtual Thread Load Comparison Test
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import com.rounders.pposeek.common.business.blob_storage.AzureBlobStorageService;
+import com.rounders.pposeek.common.business.blob_storage.BlobBlockUploader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 플랫폼 스레드 풀 / 가상 스레드 요청 처리 비교 (gradle perfTest).
+ * Tomcat 기본 최대 스레드 수(200)의 고정 풀과 요청당 가상 스레드로 같은 수의 동시 업로드 요청을 처리하고
+ * 처리 시간, 지연 분포, 최대 스레드 수, 힙 사용량을 표준 출력으로 기록한다. (Storage 왕복은 지연 스텁)
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+@Tag("perf")
+class VirtualThreadLoadComparisonTest {
+
+    private static final int REQUESTS = Integer.getInteger("perf.requests", 2000);
+    private static final long STORAGE_LATENCY_MS = Long.getLong("perf.storage-latency-ms", 50);
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Test
+    void testPlatformVersusVirtualThreads() throws Exception {
+        try (BlobStorageStub stub = new BlobStorageStub(STORAGE_LATENCY_MS)) {
+            byte[] data = new byte[64 * 1024];
+            new Random(1).nextBytes(data);
+
+            // 워밍업 (클래스 로딩, 연결 풀)
+            run("warmup", stub, data, false, 200);
+
+            Result platform = run("platform", stub, data, false, REQUESTS);
+            Result virtual = run("virtual", stub, data, true, REQUESTS);
+
+            System.out.println(platform);
+            System.out.println(virtual);
+            assertEquals(REQUESTS, platform.succeeded());
+            assertEquals(REQUESTS, virtual.succeeded());
+        }
+    }
+
+    private Result run(String mode, BlobStorageStub stub, byte[] data, boolean virtualThreads, int requests) throws Exception {
+        ThreadPoolTaskExecutor blockExecutor = new ThreadPoolTaskExecutor();
+        blockExecutor.setCorePoolSize(16);
+        blockExecutor.setMaxPoolSize(16);
+        blockExecutor.setVirtualThreads(virtualThreads);
+        blockExecutor.initialize();
+        BlobBlockUploader uploader = new BlobBlockUploader(blockExecutor, new SimpleMeterRegistry(), DataSize.ofMegabytes(1), 4);
+        AzureBlobStorageService service = new AzureBlobStorageService(stub.connectionString(), "perf",
+                DataSize.ofMegabytes(10), 4, 60, 100, 1000, 100, 1000, uploader);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        threads.resetPeakThreadCount();
+
+        long[] latencies = new long[requests];
+        int succeeded = 0;
+        long startedAt = System.nanoTime();
+        try (ExecutorService requestExecutor = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)) {
+            List<Future<Long>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                String filename = "cv-" + i + ".pdf";
+                long submittedAt = System.nanoTime();
+                futures.add(requestExecutor.submit(() -> {
+                    service.upload(new MockMultipartFile("file", filename, "application/pdf", data), "perf");
+                    return System.nanoTime() - submittedAt;
+                }));
+            }
+            for (int i = 0; i < requests; i++) {
+                latencies[i] = futures.get(i).get();
+                succeeded++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long heapPeak = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+
+        service.destroy();
+        blockExecutor.shutdown();
+
+        Arrays.sort(latencies);
+        return new Result(mode, requests, succeeded, elapsedNanos / 1_000_000,
+                requests * 1_000_000_000d / elapsedNanos,
+                latencies[requests / 2] / 1_000_000, latencies[(int) (requests * 0.99)] / 1_000_000,
+                threads.getPeakThreadCount(), heapPeak / 1024 / 1024);
+    }
+
+    /**
+     * 비교 결과
+     */
+    private record Result(String mode, int requests, int succeeded, long elapsedMs, double throughputPerSecond,
+                          long p50Ms, long p99Ms, int peakThreads, long heapDeltaMb) {
+
+        @Override
+        public String toString() {
+            return String.format("Thread mode %-8s: %d requests in %d ms (%.1f req/s), p50=%d ms, p99=%d ms, peak threads=%d, heap delta=%d MB",
+                    mode, requests, elapsedMs, throughputPerSecond, p50Ms, p99Ms, peakThreads, heapDeltaMb);
+        }
+    }
+}
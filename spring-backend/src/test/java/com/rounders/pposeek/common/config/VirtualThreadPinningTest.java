@@ -0,0 +1,124 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Virtual Thread Pinning Test
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import com.rounders.pposeek.common.business.blob_storage.AzureBlobStorageService;
+import com.rounders.pposeek.common.business.blob_storage.BlobBlockUploader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가상 스레드 고정(pinning) 검출 테스트.
+ * JFR jdk.VirtualThreadPinned 이벤트를 기록하면서 블로킹 I/O 경로를 가상 스레드로 실행하고,
+ * 우리 코드(com.rounders.pposeek)가 스택에 있는 고정 이벤트가 없는지 확인한다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class VirtualThreadPinningTest {
+
+    private static final String APP_PACKAGE = "com.rounders.pposeek.";
+
+    @Test
+    void testDetectorReportsSynchronizedBlocking() throws Exception {
+        // Given - synchronized 안에서 대기하면 캐리어 스레드가 고정된다 (검출기 자체 확인)
+        Object monitor = new Object();
+
+        // When
+        List<RecordedEvent> pinned = recordPinnedEvents(() -> {
+            synchronized (monitor) {
+                Thread.sleep(20);
+            }
+            return null;
+        }, 1);
+
+        // Then
+        assertFalse(pinned.isEmpty());
+    }
+
+    @Test
+    void testBlobUploadDoesNotPinCarrierThreads() throws Exception {
+        try (BlobStorageStub stub = new BlobStorageStub(5)) {
+            ThreadPoolTaskExecutor blockExecutor = new ThreadPoolTaskExecutor();
+            blockExecutor.setCorePoolSize(8);
+            blockExecutor.setMaxPoolSize(8);
+            blockExecutor.setVirtualThreads(true);
+            blockExecutor.initialize();
+
+            BlobBlockUploader uploader = new BlobBlockUploader(blockExecutor, new SimpleMeterRegistry(), DataSize.ofKilobytes(64), 4);
+            AzureBlobStorageService service = new AzureBlobStorageService(stub.connectionString(), "pinning",
+                    DataSize.ofMegabytes(10), 2, 10, 10, 100, 100, 1000, uploader);
+            byte[] data = new byte[256 * 1024];
+            new Random(1).nextBytes(data);
+
+            // When - 컨테이너 지연 초기화 경합 + 블록 병렬 업로드를 가상 스레드에서 동시에 실행
+            List<RecordedEvent> pinned = recordPinnedEvents(
+                    () -> service.upload(new MockMultipartFile("file", "cv.pdf", "application/pdf", data), "1"), 32);
+
+            // Then
+            assertEquals(List.of(), pinned.stream().filter(VirtualThreadPinningTest::inAppCode).map(RecordedEvent::toString).toList());
+
+            service.destroy();
+            blockExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 작업을 가상 스레드 여러 개로 동시에 실행하며 고정 이벤트를 기록.
+     */
+    private static List<RecordedEvent> recordPinnedEvents(java.util.concurrent.Callable<?> task, int parallelism) throws Exception {
+        Path file = Files.createTempFile("pinning-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = IntStream.range(0, parallelism).<Future<?>>mapToObj(i -> executor.submit(task)).toList();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static boolean inAppCode(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .anyMatch(method -> method.getType().getName().startsWith(APP_PACKAGE)
+                        && !method.getType().getName().endsWith("Test"));
+    }
+}
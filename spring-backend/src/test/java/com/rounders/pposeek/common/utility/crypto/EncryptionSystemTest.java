@@ -12,7 +12,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.rounders.pposeek.common.business.security.SecureKeyService;
 import com.rounders.pposeek.common.utility.crypto.key.SecureKeyManager;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,7 +40,13 @@ class EncryptionSystemTest {
 
     @BeforeEach
     void setUp() {
-        secureKeyManager = new SecureKeyManager();
+        // Key Vault 없이 환경변수 fallback 키만 사용
+        SecureKeyService secureKeyService = new SecureKeyService(null, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(secureKeyService, "fallbackJwtSecret", "test-jwt-secret-key-for-token-signing-32chars");
+        ReflectionTestUtils.setField(secureKeyService, "fallbackSaltKey", "test-password-salt-key-for-sha512-32chars");
+        ReflectionTestUtils.setField(secureKeyService, "fallbackPersonalDataKey", "test-personal-data-encryption-key-32chars");
+        ReflectionTestUtils.setField(secureKeyService, "fallbackResumeDataKey", "test-resume-data-encryption-key-32chars-");
+        secureKeyManager = new SecureKeyManager(secureKeyService);
         
         // Cryptor 클래스들에 키 매니저 설정
         Sha512Cryptor.setSecureKeyManager(secureKeyManager);
@@ -0,0 +1,149 @@
+/*****************************************************************
+ *
+ * PPoseek Web Application - Log Rate Limit Filter Test
+ *
+ * Copyright(c) 2025 ROUNDERS. All rights reserved.
+ * This software is the proprietary information of ROUNDERS.
+ *
+ *****************************************************************/
+package com.rounders.pposeek.common.utility.logging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로거별 초당 건수 제한/샘플링 필터 테스트.
+ * 초 단위 창은 고정 시계로 다룬다.
+ *
+ * @author siunkimm@gmail.com
+ * @since 2025
+ */
+class LogRateLimitTurboFilterTest {
+
+    private static final Instant SECOND = Instant.ofEpochSecond(1_700_000_000L);
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private Logger hotLogger;
+    private Logger otherLogger;
+
+    @BeforeEach
+    void setUp() {
+        hotLogger = loggerContext.getLogger("com.rounders.pposeek.hot.HotService");
+        hotLogger.setLevel(Level.DEBUG);
+        otherLogger = loggerContext.getLogger("com.rounders.pposeek.other.OtherService");
+        otherLogger.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    void testLimitPerSecondAndResetOnNextSecond() {
+        // Given
+        LogRateLimitTurboFilter filter = filter(5, 1.0);
+        filter.setClock(Clock.fixed(SECOND, ZoneOffset.UTC));
+        long droppedBefore = DroppedLogEvents.count(DroppedLogEvents.Reason.RATE_LIMITED);
+
+        // When / Then - 같은 초에는 5건까지만 통과
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(filter, hotLogger, Level.INFO));
+        }
+        assertEquals(FilterReply.DENY, decide(filter, hotLogger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(filter, hotLogger, Level.DEBUG));
+        assertEquals(2, DroppedLogEvents.count(DroppedLogEvents.Reason.RATE_LIMITED) - droppedBefore);
+
+        // 임계 레벨보다 높은 이벤트와 대상이 아닌 로거는 제한하지 않는다
+        assertEquals(FilterReply.NEUTRAL, decide(filter, hotLogger, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, decide(filter, otherLogger, Level.INFO));
+
+        // 다음 초에는 다시 5건
+        filter.setClock(Clock.fixed(SECOND.plusMillis(1000), ZoneOffset.UTC));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(filter, hotLogger, Level.INFO));
+        }
+        assertEquals(FilterReply.DENY, decide(filter, hotLogger, Level.INFO));
+        assertEquals(3, DroppedLogEvents.count(DroppedLogEvents.Reason.RATE_LIMITED) - droppedBefore);
+    }
+
+    @Test
+    void testConcurrentEventsAreCountedExactly() throws Exception {
+        // Given - 같은 초에 8개 스레드가 합쳐서 4000건
+        int limit = 1000;
+        int threads = 8;
+        int eventsPerThread = 500;
+        LogRateLimitTurboFilter filter = filter(limit, 1.0);
+        filter.setClock(Clock.fixed(SECOND, ZoneOffset.UTC));
+        long droppedBefore = DroppedLogEvents.count(DroppedLogEvents.Reason.RATE_LIMITED);
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int accepted = 0;
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        if (decide(filter, hotLogger, Level.INFO) == FilterReply.NEUTRAL) {
+                            accepted++;
+                        }
+                    }
+                    return accepted;
+                }));
+            }
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Integer> result : results) {
+                accepted += result.get();
+            }
+
+            // Then - CAS 창이라 통과 건수는 정확히 제한값, 나머지는 모두 버린 건수로 집계
+            assertEquals(limit, accepted);
+            assertEquals(threads * eventsPerThread - limit,
+                    DroppedLogEvents.count(DroppedLogEvents.Reason.RATE_LIMITED) - droppedBefore);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSamplingDropsAreCounted() {
+        LogRateLimitTurboFilter filter = filter(0, 0.0);
+        long sampledBefore = DroppedLogEvents.count(DroppedLogEvents.Reason.SAMPLED);
+
+        assertEquals(FilterReply.DENY, decide(filter, hotLogger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(filter, hotLogger, Level.ERROR));
+        assertEquals(1, DroppedLogEvents.count(DroppedLogEvents.Reason.SAMPLED) - sampledBefore);
+    }
+
+    private LogRateLimitTurboFilter filter(int maxEventsPerSecond, double sampleRate) {
+        LogRateLimitTurboFilter filter = new LogRateLimitTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLoggers("com.rounders.pposeek.hot");
+        filter.setThreshold("INFO");
+        filter.setMaxEventsPerSecond(maxEventsPerSecond);
+        filter.setSampleRate(sampleRate);
+        filter.start();
+        return filter;
+    }
+
+    private FilterReply decide(LogRateLimitTurboFilter filter, Logger logger, Level level) {
+        return filter.decide(null, logger, level, "event {}", new Object[] {1}, null);
+    }
+}